@@ -1,11 +1,24 @@
 package com.example.siyam_2207031_cvbuilder;
 
 import com.example.siyam_2207031_cvbuilder.controller.SceneManager;
+import com.example.siyam_2207031_cvbuilder.database.DatabaseBootstrap;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
 
  // Main entry point for the CV Builder Application
+ // Startup work is split so the window appears as early as possible: the database
+ // opens on a background thread from main(), in parallel with toolkit startup and
+ // the home screen, and the other screens are parsed once the window is up.
+ // With -Dcvbuilder.startup.exitAfterFirstFrame=true the app exits once the first
+ // frame is drawn and the background work is done, for startup benchmarks and
+ // class-data-sharing training runs.
 
 public class CVBuilderApp extends Application {
 
@@ -13,6 +26,15 @@ public class CVBuilderApp extends Application {
 
     @Override
     public void start(Stage primaryStage) {
+        CompletableFuture<DatabaseBootstrap.BootstrapReport> database = DatabaseBootstrap.start();
+        database.whenComplete((report, error) -> {
+            if (error != null) {
+                System.err.println("Database warmup failed: " + error.getMessage());
+            } else {
+                System.out.println("Startup: " + report);
+            }
+        });
+
         primaryStage.setTitle("CV Builder");
         primaryStage.setWidth(800);
         primaryStage.setHeight(600);
@@ -24,9 +46,46 @@ public class CVBuilderApp extends Application {
         sceneManager.showHomeScene();
 
         primaryStage.show();
+
+        // Parse the other screens in the background while the user is on the home screen
+        CompletableFuture<Void> preload = sceneManager.preloadScenes();
+
+        reportFirstFrame(primaryStage.getScene(), CompletableFuture.allOf(database, preload));
+    }
+
+    /**
+     * Log the time from process launch to the end of the first pulse that drew the window
+     */
+    private void reportFirstFrame(Scene scene, CompletableFuture<Void> backgroundWork) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                // Runs after this pulse, and so the frame it renders, has finished
+                Platform.runLater(() -> {
+                    Instant launched = ProcessHandle.current().info().startInstant().orElse(null);
+                    if (launched != null) {
+                        long millis = Duration.between(launched, Instant.now()).toMillis();
+                        System.out.println("Startup: first frame " + millis + " ms after launch");
+                    }
+                    if (Boolean.getBoolean("cvbuilder.startup.exitAfterFirstFrame")) {
+                        backgroundWork.whenComplete((result, error) -> Platform.runLater(Platform::exit));
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public void stop() {
+        if (Boolean.getBoolean("cvbuilder.scene.logTransitions")) {
+            sceneManager.getTransitionStats().forEach(System.out::println);
+        }
     }
 
     public static void main(String[] args) {
+        // Open the database while the JavaFX toolkit starts
+        DatabaseBootstrap.start();
         launch(args);
     }
 }
@@ -0,0 +1,14 @@
+package com.example.siyam_2207031_cvbuilder;
+
+/**
+ * Main class of the shaded jar. The java launcher will not start an
+ * Application subclass from the classpath ("JavaFX runtime components are
+ * missing"), so `java -jar` goes through this class instead. Running from the
+ * classpath is also what lets the AppCDS archive cover the application classes.
+ */
+public class Launcher {
+
+    public static void main(String[] args) {
+        CVBuilderApp.main(args);
+    }
+}
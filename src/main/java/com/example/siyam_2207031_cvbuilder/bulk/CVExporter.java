@@ -0,0 +1,204 @@
+package com.example.siyam_2207031_cvbuilder.bulk;
+
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming export of every CV to JSON Lines, optionally gzip-compressed
+ *
+ * CVs come from CVRepository.streamAll one chunk at a time and each record is
+ * encoded straight into a fixed direct buffer that is drained to the file
+ * channel when full, so heap use stays flat however large the database is.
+ */
+public class CVExporter {
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final CVRepository repository;
+    private int chunkSize = 500;
+    private Consumer<ExportReport> progressListener = report -> { };
+
+    public CVExporter(CVRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * CVs hydrated per round of child-table queries
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Called on the exporting thread after every chunk
+     */
+    public void setProgressListener(Consumer<ExportReport> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Export to a file, gzip-compressed when its name ends in .gz
+     */
+    public ExportReport exportTo(Path file) throws IOException, SQLException {
+        return exportTo(file, file.getFileName().toString().endsWith(".gz"));
+    }
+
+    /**
+     * Export to a file. If the export fails, the partly written file is deleted.
+     */
+    public ExportReport exportTo(Path file, boolean gzip) throws IOException, SQLException {
+        ExportReport report = new ExportReport();
+        FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        // Closing the gzip channel writes the trailer and closes the file channel too;
+        // closing a channel that is already closed does nothing
+        try (fileChannel;
+             WritableByteChannel channel = gzip
+                 ? Channels.newChannel(new GZIPOutputStream(Channels.newOutputStream(fileChannel), GZIP_BUFFER_SIZE))
+                 : fileChannel) {
+            RecordSink sink = new RecordSink(channel);
+            try {
+                repository.streamAll(chunkSize, chunk -> {
+                    try {
+                        for (CVSnapshot cv : chunk) {
+                            sink.write(cv);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    report.recordExported(chunk.size(), fileChannel);
+                    progressListener.accept(report);
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            sink.flush();
+        } catch (IOException | SQLException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw e;
+        }
+        report.finish(Files.size(file));
+        return report;
+    }
+
+    /**
+     * Encodes records into one reusable buffer and drains it to the channel
+     */
+    private static class RecordSink {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final StringBuilder record = new StringBuilder(4096);
+
+        RecordSink(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void write(CVSnapshot cv) throws IOException {
+            record.setLength(0);
+            CVJsonWriter.write(cv, record);
+            CharBuffer chars = CharBuffer.wrap(record);
+            while (true) {
+                CoderResult result = encoder.encode(chars, buffer, false);
+                if (result.isOverflow()) {
+                    drain();
+                } else if (result.isUnderflow()) {
+                    break;
+                } else {
+                    result.throwException();
+                }
+            }
+        }
+
+        void flush() throws IOException {
+            encoder.encode(CharBuffer.allocate(0), buffer, true);
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Progress and throughput of an export
+     */
+    public static class ExportReport {
+        private final long startNanos = System.nanoTime();
+        private volatile long exported;
+        private volatile long bytesWritten;
+        private volatile long elapsedNanos;
+
+        void recordExported(int count, FileChannel fileChannel) {
+            exported += count;
+            elapsedNanos = System.nanoTime() - startNanos;
+            try {
+                bytesWritten = fileChannel.position();
+            } catch (IOException e) {
+                // Progress only; the final size is taken in finish
+            }
+        }
+
+        void finish(long fileSize) {
+            bytesWritten = fileSize;
+            elapsedNanos = System.nanoTime() - startNanos;
+        }
+
+        public long getExported() {
+            return exported;
+        }
+
+        /**
+         * Bytes written to the file so far (compressed size when gzipped)
+         */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        public double getElapsedSeconds() {
+            return elapsedNanos / 1e9;
+        }
+
+        public double getCVsPerSecond() {
+            return elapsedNanos == 0 ? 0 : exported / (elapsedNanos / 1e9);
+        }
+
+        public double getMegabytesPerSecond() {
+            return elapsedNanos == 0 ? 0 : bytesWritten / 1e6 / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d CVs, %.1f MB in %.1f s (%.0f CVs/s, %.1f MB/s)",
+                exported, bytesWritten / 1e6, getElapsedSeconds(), getCVsPerSecond(), getMegabytesPerSecond());
+        }
+    }
+}
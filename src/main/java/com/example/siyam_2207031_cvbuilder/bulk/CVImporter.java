@@ -0,0 +1,175 @@
+package com.example.siyam_2207031_cvbuilder.bulk;
+
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streaming bulk import of CVs from JSON Lines or CSV (see CVRecordMapper for
+ * both record layouts)
+ *
+ * Records are parsed one at a time and written in chunks, one transaction per
+ * chunk through CVRepository.saveAll, so memory use depends on the chunk size,
+ * not on the file size. A record that cannot be parsed or mapped is reported
+ * and skipped. If a chunk's transaction fails, its CVs are retried one per
+ * transaction so only the offending records are lost.
+ */
+public class CVImporter {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    public enum Format {
+        JSON_LINES, CSV;
+
+        /**
+         * Format implied by a file extension: .csv is CSV, anything else JSON Lines
+         */
+        public static Format forFile(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            return name.endsWith(".csv") ? CSV : JSON_LINES;
+        }
+    }
+
+    private final CVRepository repository;
+    private int chunkSize = 500;
+    private Consumer<ImportReport> progressListener = report -> { };
+
+    public CVImporter(CVRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * CVs written per transaction
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Called on the importing thread after every chunk
+     */
+    public void setProgressListener(Consumer<ImportReport> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public ImportReport importFile(Path file) throws IOException {
+        return importFile(file, Format.forFile(file));
+    }
+
+    public ImportReport importFile(Path file, Format format) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return format == Format.CSV ? importCsv(reader) : importJsonLines(reader);
+        }
+    }
+
+    /**
+     * Import one JSON object per line; blank lines are ignored
+     */
+    public ImportReport importJsonLines(Reader source) throws IOException {
+        ImportReport report = new ImportReport();
+        Chunk chunk = new Chunk(report);
+        BufferedReader reader = new BufferedReader(source, READ_BUFFER_SIZE);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            report.recordRead();
+            try {
+                chunk.add(CVRecordMapper.fromJson(JsonParser.parse(line)), lineNumber);
+            } catch (IllegalArgumentException e) {
+                report.recordFailed(lineNumber, e.getMessage());
+            }
+        }
+        chunk.flush();
+        report.finish();
+        return report;
+    }
+
+    /**
+     * Import CSV with a header row naming the columns
+     */
+    public ImportReport importCsv(Reader source) throws IOException {
+        ImportReport report = new ImportReport();
+        Chunk chunk = new Chunk(report);
+        CsvReader reader = new CsvReader(new BufferedReader(source, READ_BUFFER_SIZE));
+        List<String> header = reader.next();
+        if (header == null) {
+            report.finish();
+            return report;
+        }
+        Map<String, Integer> columns = CVRecordMapper.csvHeader(header);
+
+        List<String> row;
+        while ((row = reader.next()) != null) {
+            report.recordRead();
+            try {
+                chunk.add(CVRecordMapper.fromCsv(row, columns), reader.getRecordLine());
+            } catch (IllegalArgumentException e) {
+                report.recordFailed(reader.getRecordLine(), e.getMessage());
+            }
+        }
+        chunk.flush();
+        report.finish();
+        return report;
+    }
+
+    /**
+     * CVs waiting to be written, with the source line of each for error reports
+     */
+    private class Chunk {
+        private final ImportReport report;
+        private final List<CVSnapshot> cvs = new ArrayList<>(chunkSize);
+        private final List<Long> lines = new ArrayList<>(chunkSize);
+
+        Chunk(ImportReport report) {
+            this.report = report;
+        }
+
+        void add(CVSnapshot cv, long line) {
+            cvs.add(cv);
+            lines.add(line);
+            if (cvs.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (cvs.isEmpty()) {
+                return;
+            }
+            try {
+                repository.saveAll(cvs);
+                report.recordImported(cvs.size());
+            } catch (SQLException e) {
+                for (int i = 0; i < cvs.size(); i++) {
+                    try {
+                        repository.saveAll(List.of(cvs.get(i)));
+                        report.recordImported(1);
+                    } catch (SQLException single) {
+                        report.recordFailed(lines.get(i), single.getMessage());
+                    }
+                }
+            }
+            cvs.clear();
+            lines.clear();
+            progressListener.accept(report);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.siyam_2207031_cvbuilder.bulk;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes a CV as one JSON Lines record, in the layout CVImporter reads back,
+ * plus its id and timestamps
+ */
+final class CVJsonWriter {
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private CVJsonWriter() {
+    }
+
+    /**
+     * Append the record and its trailing newline
+     */
+    static void write(CVSnapshot cv, StringBuilder out) {
+        out.append("{\"id\":").append(cv.id());
+        field(out, "fullName", cv.fullName());
+        field(out, "email", cv.email());
+        field(out, "phoneNumber", cv.phoneNumber());
+        field(out, "address", cv.address());
+        field(out, "profilePhoto", cv.profilePhoto());
+        field(out, "createdAt", format(cv.createdAt()));
+        field(out, "updatedAt", format(cv.updatedAt()));
+
+        out.append(",\"educations\":[");
+        CVSnapshot.Education[] educations = cv.educations();
+        for (int i = 0; i < educations.length; i++) {
+            CVSnapshot.Education edu = educations[i];
+            out.append(i == 0 ? "{" : ",{");
+            firstField(out, "institution", edu.institution());
+            field(out, "degree", edu.degree());
+            field(out, "fieldOfStudy", edu.fieldOfStudy());
+            field(out, "graduationYear", edu.graduationYear());
+            out.append('}');
+        }
+
+        out.append("],\"experiences\":[");
+        CVSnapshot.Experience[] experiences = cv.experiences();
+        for (int i = 0; i < experiences.length; i++) {
+            CVSnapshot.Experience exp = experiences[i];
+            out.append(i == 0 ? "{" : ",{");
+            firstField(out, "company", exp.company());
+            field(out, "position", exp.position());
+            field(out, "startDate", exp.startDate());
+            field(out, "endDate", exp.endDate());
+            field(out, "description", exp.description());
+            out.append('}');
+        }
+
+        out.append("],\"projects\":[");
+        CVSnapshot.Project[] projects = cv.projects();
+        for (int i = 0; i < projects.length; i++) {
+            CVSnapshot.Project proj = projects[i];
+            out.append(i == 0 ? "{" : ",{");
+            firstField(out, "title", proj.title());
+            field(out, "description", proj.description());
+            field(out, "technologies", proj.technologies());
+            out.append('}');
+        }
+
+        out.append("],\"skills\":[");
+        String[] skills = cv.skills();
+        for (int i = 0; i < skills.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            string(out, skills[i]);
+        }
+        out.append("]}\n");
+    }
+
+    private static void firstField(StringBuilder out, String name, String value) {
+        out.append('"').append(name).append("\":");
+        string(out, value);
+    }
+
+    private static void field(StringBuilder out, String name, String value) {
+        out.append(",\"").append(name).append("\":");
+        string(out, value);
+    }
+
+    private static void string(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private static String format(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().format(TIMESTAMP_FORMAT) : null;
+    }
+}
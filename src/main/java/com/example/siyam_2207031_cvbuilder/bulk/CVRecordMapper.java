@@ -0,0 +1,239 @@
+package com.example.siyam_2207031_cvbuilder.bulk;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps parsed import records onto CV snapshots
+ *
+ * JSON Lines records use the model's property names:
+ * {"fullName", "email", "phoneNumber", "address", "profilePhoto",
+ *  "educations": [{"institution", "degree", "fieldOfStudy", "graduationYear"}],
+ *  "experiences": [{"company", "position", "startDate", "endDate", "description"}],
+ *  "projects": [{"title", "description", "technologies"}],
+ *  "skills": ["..."] or "a, b, c"}
+ *
+ * CSV records have one column per database column of the cv table plus skills,
+ * educations, experiences and projects. List columns separate entries with '|'
+ * and the fields of an entry with ';' (in the order above); a backslash escapes
+ * either separator or itself.
+ */
+final class CVRecordMapper {
+
+    private CVRecordMapper() {
+    }
+
+    /**
+     * CV from a parsed JSON Lines record
+     *
+     * @throws IllegalArgumentException when the record is not a usable CV
+     */
+    static CVSnapshot fromJson(Object record) {
+        if (!(record instanceof Map<?, ?> map)) {
+            throw new IllegalArgumentException("Record is not a JSON object");
+        }
+        List<Map<?, ?>> eduObjects = objects(map, "educations");
+        CVSnapshot.Education[] educations = new CVSnapshot.Education[eduObjects.size()];
+        for (int i = 0; i < educations.length; i++) {
+            Map<?, ?> edu = eduObjects.get(i);
+            educations[i] = new CVSnapshot.Education(0, textOrEmpty(edu, "institution"), textOrEmpty(edu, "degree"),
+                textOrEmpty(edu, "fieldOfStudy"), textOrEmpty(edu, "graduationYear"));
+        }
+        List<Map<?, ?>> expObjects = objects(map, "experiences");
+        CVSnapshot.Experience[] experiences = new CVSnapshot.Experience[expObjects.size()];
+        for (int i = 0; i < experiences.length; i++) {
+            Map<?, ?> exp = expObjects.get(i);
+            experiences[i] = new CVSnapshot.Experience(0, textOrEmpty(exp, "company"), textOrEmpty(exp, "position"),
+                textOrEmpty(exp, "startDate"), textOrEmpty(exp, "endDate"), textOrEmpty(exp, "description"));
+        }
+        List<Map<?, ?>> projObjects = objects(map, "projects");
+        CVSnapshot.Project[] projects = new CVSnapshot.Project[projObjects.size()];
+        for (int i = 0; i < projects.length; i++) {
+            Map<?, ?> proj = projObjects.get(i);
+            projects[i] = new CVSnapshot.Project(0, textOrEmpty(proj, "title"), textOrEmpty(proj, "description"),
+                textOrEmpty(proj, "technologies"));
+        }
+
+        List<String> skills = new ArrayList<>();
+        Object skillsValue = map.get("skills");
+        if (skillsValue instanceof List<?> list) {
+            for (Object skill : list) {
+                if (skill != null && !skill.toString().isBlank()) {
+                    skills.add(skill.toString().trim());
+                }
+            }
+        } else if (skillsValue != null) {
+            addSkills(skills, skillsValue.toString(), ',');
+        }
+        return validate(new CVSnapshot(0, text(map, "fullName"), text(map, "email"), text(map, "phoneNumber"),
+            text(map, "address"), text(map, "profilePhoto"), null, null,
+            educations, experiences, projects, skills.toArray(new String[0])));
+    }
+
+    /**
+     * Column name to index lookup for a CSV header row
+     */
+    static Map<String, Integer> csvHeader(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(), i);
+        }
+        for (String required : new String[]{"full_name", "email", "phone_number", "address"}) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header has no " + required + " column");
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * CV from one CSV row, with columns looked up through the header
+     *
+     * @throws IllegalArgumentException when the row is not a usable CV
+     */
+    static CVSnapshot fromCsv(List<String> row, Map<String, Integer> columns) {
+        List<CVSnapshot.Education> educations = new ArrayList<>();
+        for (List<String> edu : entries(column(row, columns, "educations"), 4)) {
+            educations.add(new CVSnapshot.Education(0, edu.get(0), edu.get(1), edu.get(2), edu.get(3)));
+        }
+        List<CVSnapshot.Experience> experiences = new ArrayList<>();
+        for (List<String> exp : entries(column(row, columns, "experiences"), 5)) {
+            experiences.add(new CVSnapshot.Experience(0, exp.get(0), exp.get(1), exp.get(2), exp.get(3), exp.get(4)));
+        }
+        List<CVSnapshot.Project> projects = new ArrayList<>();
+        for (List<String> proj : entries(column(row, columns, "projects"), 3)) {
+            projects.add(new CVSnapshot.Project(0, proj.get(0), proj.get(1), proj.get(2)));
+        }
+        List<String> skills = new ArrayList<>();
+        String skillsValue = column(row, columns, "skills");
+        if (skillsValue != null) {
+            addSkills(skills, skillsValue, '|');
+        }
+        return validate(new CVSnapshot(0, column(row, columns, "full_name"), column(row, columns, "email"),
+            column(row, columns, "phone_number"), column(row, columns, "address"),
+            column(row, columns, "profile_photo"), null, null,
+            educations.toArray(new CVSnapshot.Education[0]), experiences.toArray(new CVSnapshot.Experience[0]),
+            projects.toArray(new CVSnapshot.Project[0]), skills.toArray(new String[0])));
+    }
+
+    private static CVSnapshot validate(CVSnapshot cv) {
+        requireText(cv.fullName(), "fullName");
+        requireText(cv.email(), "email");
+        requireText(cv.phoneNumber(), "phoneNumber");
+        requireText(cv.address(), "address");
+        return cv;
+    }
+
+    private static void requireText(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing " + field);
+        }
+    }
+
+    /**
+     * Add the skills of a separated list, honouring backslash escapes
+     */
+    private static void addSkills(List<String> names, String skills, char separator) {
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i <= skills.length(); i++) {
+            char c = i < skills.length() ? skills.charAt(i) : separator;
+            if (c == '\\' && i + 1 < skills.length()) {
+                current.append(skills.charAt(++i));
+            } else if (c == separator) {
+                String name = current.toString().trim();
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+    }
+
+    private static String text(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+        if (value instanceof Map || value instanceof List) {
+            throw new IllegalArgumentException(key + " must be a string");
+        }
+        return value != null ? value.toString() : null;
+    }
+
+    private static String textOrEmpty(Map<?, ?> map, String key) {
+        String value = text(map, key);
+        return value != null ? value : "";
+    }
+
+    private static List<Map<?, ?>> objects(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+        if (value == null) {
+            return List.of();
+        }
+        if (!(value instanceof List<?> list)) {
+            throw new IllegalArgumentException(key + " must be an array");
+        }
+        List<Map<?, ?>> objects = new ArrayList<>(list.size());
+        for (Object element : list) {
+            if (!(element instanceof Map<?, ?> object)) {
+                throw new IllegalArgumentException(key + " entries must be objects");
+            }
+            objects.add(object);
+        }
+        return objects;
+    }
+
+    private static String column(List<String> row, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= row.size()) {
+            return null;
+        }
+        String value = row.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Split a list column into entries ('|') of exactly fieldCount fields (';'),
+     * padding missing trailing fields with empty strings
+     */
+    private static List<List<String>> entries(String value, int fieldCount) {
+        List<List<String>> entries = new ArrayList<>();
+        if (value == null || value.isEmpty()) {
+            return entries;
+        }
+        List<String> fields = new ArrayList<>(fieldCount);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                current.append(value.charAt(++i));
+            } else if (c == ';' && fieldCount > 1) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else if (c == '|') {
+                fields.add(current.toString());
+                current.setLength(0);
+                entries.add(pad(fields, fieldCount));
+                fields = new ArrayList<>(fieldCount);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        entries.add(pad(fields, fieldCount));
+        return entries;
+    }
+
+    private static List<String> pad(List<String> fields, int fieldCount) {
+        if (fields.size() > fieldCount) {
+            throw new IllegalArgumentException("Entry has " + fields.size() + " fields, expected " + fieldCount);
+        }
+        while (fields.size() < fieldCount) {
+            fields.add("");
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.siyam_2207031_cvbuilder.bulk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Progress and outcome of a bulk import
+ * Only the first MAX_ERRORS record errors are kept, so a file full of bad
+ * records cannot grow the report without bound; getFailed() still counts all.
+ */
+public class ImportReport {
+    static final int MAX_ERRORS = 1000;
+
+    private final long startNanos = System.nanoTime();
+    private long recordsRead;
+    private long imported;
+    private long failed;
+    private long elapsedNanos;
+    private final List<RecordError> errors = new ArrayList<>();
+
+    /**
+     * A record that could not be imported, by its line number in the source file
+     */
+    public record RecordError(long line, String message) {
+        @Override
+        public String toString() {
+            return "line " + line + ": " + message;
+        }
+    }
+
+    synchronized void recordRead() {
+        recordsRead++;
+    }
+
+    synchronized void recordImported(int count) {
+        imported += count;
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    synchronized void recordFailed(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RecordError(line, message));
+        }
+    }
+
+    synchronized void finish() {
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    public synchronized long getRecordsRead() {
+        return recordsRead;
+    }
+
+    public synchronized long getImported() {
+        return imported;
+    }
+
+    public synchronized long getFailed() {
+        return failed;
+    }
+
+    public synchronized double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    /**
+     * Imported records per second so far
+     */
+    public synchronized double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : imported / (elapsedNanos / 1e9);
+    }
+
+    public synchronized List<RecordError> getErrors() {
+        return Collections.unmodifiableList(new ArrayList<>(errors));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d read, %d imported, %d failed in %.1f s (%.0f rows/s)",
+            recordsRead, imported, failed, elapsedNanos / 1e9, getRowsPerSecond());
+    }
+}
@@ -2,10 +2,10 @@ package com.example.siyam_2207031_cvbuilder.controller;
 
 import com.example.siyam_2207031_cvbuilder.database.CVRepository;
 import com.example.siyam_2207031_cvbuilder.model.CV;
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.geometry.Insets;
 import javafx.scene.layout.VBox;
 
 import java.util.concurrent.CompletableFuture;
@@ -14,7 +14,7 @@ import java.util.concurrent.CompletableFuture;
  * Controller for the CV Form Screen with Database Integration
  * Supports concurrent validation and asynchronous save operations
  */
-public class CVFormController {
+public class CVFormController implements ManagedController {
 
     @FXML
     private TextField fullNameField;
@@ -81,6 +81,8 @@ public class CVFormController {
     private CV cv;
     private CVRepository cvRepository;
     private boolean isEditMode = false;
+    // Builds and recycles the entry cards, styled from styles.css
+    private final EntryNodeFactory entryFactory = new EntryNodeFactory();
 
     @FXML
     public void initialize() {
@@ -95,10 +97,36 @@ public class CVFormController {
         backButton.setOnAction(event -> sceneManager.showHomeScene());
     }
 
+    @Override
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
     }
 
+    /**
+     * Clear the form for a new CV before the screen is reused
+     */
+    @Override
+    public void reset() {
+        cv = new CV();
+        isEditMode = false;
+
+        fullNameField.clear();
+        emailField.clear();
+        phoneField.clear();
+        addressField.clear();
+        clearEducationFields();
+        clearExperienceFields();
+        clearProjectFields();
+        skillsField.clear();
+
+        entryFactory.releaseAll(educationListBox);
+        entryFactory.releaseAll(experienceListBox);
+        entryFactory.releaseAll(projectListBox);
+
+        generateCVButton.setDisable(false);
+        generateCVButton.setText("Generate CV");
+    }
+
     /**
      * Load existing CV for editing
      */
@@ -194,84 +222,37 @@ public class CVFormController {
     }
 
     private void displayEducation(CV.Education education) {
-        VBox educationCard = createEducationCard(education);
-        educationListBox.getChildren().add(educationCard);
-    }
-
-    private void displayExperience(CV.Experience experience) {
-        VBox experienceCard = createExperienceCard(experience);
-        experienceListBox.getChildren().add(experienceCard);
-    }
-
-    private void displayProject(CV.Project project) {
-        VBox projectCard = createProjectCard(project);
-        projectListBox.getChildren().add(projectCard);
-    }
-
-    private VBox createEducationCard(CV.Education education) {
-        VBox card = new VBox(5);
-        card.setStyle("-fx-border-color: #ECF0F1; -fx-border-width: 1; -fx-background-color: #F8F9FA;");
-        card.setPadding(new Insets(10));
-
-        Label institution = new Label(education.getInstitution());
-        institution.setStyle("-fx-font-weight: bold; -fx-font-size: 12;");
-        Label degree = new Label(education.getDegree() + " in " + education.getFieldOfStudy());
-        Label year = new Label("Graduation: " + education.getGraduationYear());
-        year.setStyle("-fx-text-fill: #7F8C8D; -fx-font-size: 10;");
-
-        Button deleteBtn = new Button("Remove");
-        deleteBtn.setOnAction(event -> {
+        VBox card = entryFactory.card(EntryNodeFactory.Layout.FORM_EDUCATION, removed -> {
             cv.getEducations().remove(education);
-            educationListBox.getChildren().remove(card);
-        });
-
-        card.getChildren().addAll(institution, degree, year, deleteBtn);
-        return card;
+            entryFactory.release(educationListBox, removed);
+        },
+            education.getInstitution(),
+            education.getDegree() + " in " + education.getFieldOfStudy(),
+            "Graduation: " + education.getGraduationYear());
+        educationListBox.getChildren().add(card);
     }
 
-    private VBox createExperienceCard(CV.Experience experience) {
-        VBox card = new VBox(5);
-        card.setStyle("-fx-border-color: #ECF0F1; -fx-border-width: 1; -fx-background-color: #F8F9FA;");
-        card.setPadding(new Insets(10));
-
-        Label position = new Label(experience.getPosition());
-        position.setStyle("-fx-font-weight: bold; -fx-font-size: 12;");
-        Label company = new Label(experience.getCompany());
-        Label dates = new Label(experience.getStartDate() + " - " + experience.getEndDate());
-        dates.setStyle("-fx-text-fill: #7F8C8D; -fx-font-size: 10;");
-        Label description = new Label(experience.getDescription());
-        description.setWrapText(true);
-
-        Button deleteBtn = new Button("Remove");
-        deleteBtn.setOnAction(event -> {
+    private void displayExperience(CV.Experience experience) {
+        VBox card = entryFactory.card(EntryNodeFactory.Layout.FORM_EXPERIENCE, removed -> {
             cv.getExperiences().remove(experience);
-            experienceListBox.getChildren().remove(card);
-        });
-
-        card.getChildren().addAll(position, company, dates, description, deleteBtn);
-        return card;
+            entryFactory.release(experienceListBox, removed);
+        },
+            experience.getPosition(),
+            experience.getCompany(),
+            experience.getStartDate() + " - " + experience.getEndDate(),
+            experience.getDescription());
+        experienceListBox.getChildren().add(card);
     }
 
-    private VBox createProjectCard(CV.Project project) {
-        VBox card = new VBox(5);
-        card.setStyle("-fx-border-color: #ECF0F1; -fx-border-width: 1; -fx-background-color: #F8F9FA;");
-        card.setPadding(new Insets(10));
-
-        Label title = new Label(project.getTitle());
-        title.setStyle("-fx-font-weight: bold; -fx-font-size: 12;");
-        Label technologies = new Label("Tech: " + project.getTechnologies());
-        technologies.setStyle("-fx-text-fill: #3498DB; -fx-font-size: 10;");
-        Label description = new Label(project.getDescription());
-        description.setWrapText(true);
-
-        Button deleteBtn = new Button("Remove");
-        deleteBtn.setOnAction(event -> {
+    private void displayProject(CV.Project project) {
+        VBox card = entryFactory.card(EntryNodeFactory.Layout.FORM_PROJECT, removed -> {
             cv.getProjects().remove(project);
-            projectListBox.getChildren().remove(card);
-        });
-
-        card.getChildren().addAll(title, technologies, description, deleteBtn);
-        return card;
+            entryFactory.release(projectListBox, removed);
+        },
+            project.getTitle(),
+            "Tech: " + project.getTechnologies(),
+            project.getDescription());
+        projectListBox.getChildren().add(card);
     }
 
     /**
@@ -312,16 +293,18 @@ public class CVFormController {
                 generateCVButton.setDisable(true);
                 generateCVButton.setText("Saving...");
 
-                // Save or update based on mode
-                CompletableFuture<?> saveFuture;
+                // Save or update based on mode; the repository works on an immutable snapshot
+                CVSnapshot snapshot = cv.toSnapshot();
+                CompletableFuture<Long> saveFuture;
                 if (isEditMode) {
-                    saveFuture = cvRepository.updateAsync(cv);
+                    saveFuture = cvRepository.updateAsync(snapshot).thenApply(ignored -> snapshot.id());
                 } else {
-                    saveFuture = cvRepository.saveAsync(cv);
+                    saveFuture = cvRepository.saveAsync(snapshot);
                 }
 
                 saveFuture
-                    .thenRun(() -> Platform.runLater(() -> {
+                    .thenAccept(id -> Platform.runLater(() -> {
+                        cv.setId(id);
                         generateCVButton.setDisable(false);
                         generateCVButton.setText(isEditMode ? "Update CV" : "Generate CV");
                         showInfo("Success", "CV saved successfully to database!");
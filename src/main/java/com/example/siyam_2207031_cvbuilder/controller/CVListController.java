@@ -1,35 +1,55 @@
 package com.example.siyam_2207031_cvbuilder.controller;
 
+import com.example.siyam_2207031_cvbuilder.database.CVChangeListener;
 import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.database.QueryCanceller;
 import com.example.siyam_2207031_cvbuilder.model.CV;
+import com.example.siyam_2207031_cvbuilder.model.CVSummary;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.util.Duration;
 
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * Controller for CV List View with Observable patterns
  * Demonstrates JavaFX TableView with ObservableList for real-time updates
+ * Rows are lightweight summaries loaded a page at a time as the table is scrolled
  */
-public class CVListController {
+public class CVListController implements ManagedController {
+    // Fetch the next page once the scroll position passes this fraction of the list
+    private static final double NEXT_PAGE_THRESHOLD = 0.9;
+    // Quiet period after the last keystroke before a search runs
+    private static final Duration SEARCH_DEBOUNCE = Duration.millis(250);
 
     @FXML
-    private TableView<CV> cvTableView;
+    private TableView<CVSummary> cvTableView;
     @FXML
-    private TableColumn<CV, Long> idColumn;
+    private TableColumn<CVSummary, Long> idColumn;
     @FXML
-    private TableColumn<CV, String> nameColumn;
+    private TableColumn<CVSummary, String> nameColumn;
     @FXML
-    private TableColumn<CV, String> emailColumn;
+    private TableColumn<CVSummary, String> emailColumn;
     @FXML
-    private TableColumn<CV, String> phoneColumn;
+    private TableColumn<CVSummary, String> phoneColumn;
     @FXML
-    private TableColumn<CV, Timestamp> createdAtColumn;
+    private TableColumn<CVSummary, Timestamp> createdAtColumn;
     @FXML
     private TextField searchField;
     @FXML
@@ -48,44 +68,93 @@ public class CVListController {
     private Label statusLabel;
 
     private SceneManager sceneManager;
+    // The table's vertical scroll bar, once its skin exists
+    private ScrollBar verticalScrollBar;
     private CVRepository cvRepository;
-    private ObservableList<CV> cvObservableList;
+    private CVListModel cvListModel;
+    private ObservableList<CVSummary> cvObservableList;
+    // Rows of the current search, shown instead of the paged list, which keeps
+    // receiving repository changes underneath
+    private final ObservableList<CVSummary> searchResults = FXCollections.observableArrayList();
+    // True while the table shows search results, which are not paged
+    private boolean showingSearchResults;
+
+    // Search-as-you-type state, only touched on the JavaFX thread
+    private final PauseTransition searchDebounce = new PauseTransition(SEARCH_DEBOUNCE);
+    private CompletableFuture<List<CVSummary>> inFlightSearch;
+    private QueryCanceller inFlightQuery;
+    private long searchGeneration;
+    private String lastSearchTerm;
+    private List<CVSummary> lastSearchResults;
+    // changeCount when lastSearchResults were queried; they may only be narrowed while it is unchanged
+    private long lastSearchChangeCount;
+    // Bumped on the writing thread for every save, update and delete the repository commits
+    private final AtomicLong changeCount = new AtomicLong();
 
     @FXML
     public void initialize() {
-        cvRepository = CVRepository.getInstance();
-        cvObservableList = cvRepository.getObservableList();
-
         // Setup table columns with property binding
         setupTableColumns();
 
-        // Bind the ObservableList to the TableView
-        cvTableView.setItems(cvObservableList);
-
         // Setup button actions
         setupButtons();
 
-        // Load initial data asynchronously
-        loadAllCVsAsync();
+        // Fetch further pages when the user scrolls near the end
+        setupPaging();
+
+        // Search as the user types, once typing pauses
+        searchDebounce.setOnFinished(event -> searchCVs());
+        searchField.textProperty().addListener((obs, oldText, newText) -> searchDebounce.playFromStart());
 
         // Enable multiple selection
         cvTableView.getSelectionModel().setSelectionMode(SelectionMode.SINGLE);
     }
 
+    /**
+     * Bind the table to the shared CV list and load it, on the JavaFX thread
+     */
+    @Override
+    public void onFirstShow() {
+        cvRepository = CVRepository.getInstance();
+        cvRepository.addChangeListener(new CVChangeListener() {
+            @Override
+            public void added(CVSummary summary) {
+                changeCount.incrementAndGet();
+            }
+
+            @Override
+            public void updated(CVSummary summary) {
+                changeCount.incrementAndGet();
+            }
+
+            @Override
+            public void removed(long id) {
+                changeCount.incrementAndGet();
+            }
+        });
+        cvListModel = CVListModel.getInstance();
+        cvObservableList = cvListModel.getItems();
+
+        // Bind the ObservableList to the TableView
+        cvTableView.setItems(cvObservableList);
+
+        // Load initial data asynchronously
+        loadAllCVsAsync();
+    }
+
     /**
      * Setup table columns with property value factories
      */
     private void setupTableColumns() {
-        idColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
-        
-        // Use property binding for observable updates
-        nameColumn.setCellValueFactory(cellData -> cellData.getValue().fullNameProperty());
-        emailColumn.setCellValueFactory(cellData -> cellData.getValue().emailProperty());
-        phoneColumn.setCellValueFactory(cellData -> cellData.getValue().phoneNumberProperty());
+        // Summaries are immutable; updates replace the whole row in the list
+        idColumn.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().id()));
+        nameColumn.setCellValueFactory(cellData -> new ReadOnlyStringWrapper(cellData.getValue().fullName()));
+        emailColumn.setCellValueFactory(cellData -> new ReadOnlyStringWrapper(cellData.getValue().email()));
+        phoneColumn.setCellValueFactory(cellData -> new ReadOnlyStringWrapper(cellData.getValue().phoneNumber()));
         
         // Format timestamp column
-        createdAtColumn.setCellValueFactory(new PropertyValueFactory<>("createdAt"));
-        createdAtColumn.setCellFactory(column -> new TableCell<CV, Timestamp>() {
+        createdAtColumn.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().createdAt()));
+        createdAtColumn.setCellFactory(column -> new TableCell<CVSummary, Timestamp>() {
             private final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm");
             
             @Override
@@ -104,7 +173,8 @@ public class CVListController {
      * Setup button actions
      */
     private void setupButtons() {
-        searchButton.setOnAction(event -> searchCVs());
+        searchButton.setOnAction(event -> searchNow());
+        searchField.setOnAction(event -> searchNow());
         refreshButton.setOnAction(event -> refreshList());
         viewButton.setOnAction(event -> viewSelectedCV());
         editButton.setOnAction(event -> editSelectedCV());
@@ -112,19 +182,73 @@ public class CVListController {
         backButton.setOnAction(event -> sceneManager.showHomeScene());
     }
 
+    @Override
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
     }
 
+    /**
+     * Start from the first page with no search or selection when the screen is reused
+     */
+    @Override
+    public void reset() {
+        cvTableView.getSelectionModel().clearSelection();
+        refreshList();
+    }
+
+    /**
+     * Watch the table's vertical scroll bar once the skin exists and request the
+     * next page when the user nears the bottom, or when there is nothing to scroll
+     */
+    private void setupPaging() {
+        cvTableView.skinProperty().addListener((obs, oldSkin, newSkin) -> {
+            for (Node node : cvTableView.lookupAll(".scroll-bar")) {
+                if (node instanceof ScrollBar scrollBar && scrollBar.getOrientation() == Orientation.VERTICAL) {
+                    verticalScrollBar = scrollBar;
+                    scrollBar.valueProperty().addListener((o, oldValue, newValue) -> {
+                        if (newValue.doubleValue() >= scrollBar.getMax() * NEXT_PAGE_THRESHOLD) {
+                            loadNextPageAsync();
+                        }
+                    });
+                    // The bar hides when the rows stop filling the table, e.g. after the window grows
+                    scrollBar.visibleProperty().addListener((o, wasVisible, visible) -> {
+                        if (!visible) {
+                            fillTable();
+                        }
+                    });
+                }
+            }
+            Platform.runLater(this::fillTable);
+        });
+    }
+
+    /**
+     * Load the next page while the rows loaded so far do not fill the table,
+     * as without a scroll bar there is no scrolling to request it
+     */
+    private void fillTable() {
+        if (verticalScrollBar == null || cvTableView.getHeight() <= 0) {
+            return;
+        }
+        // Lay the new rows out now so the scroll bar reflects them
+        cvTableView.layout();
+        if (!verticalScrollBar.isVisible()) {
+            loadNextPageAsync();
+        }
+    }
+
     /**
      * Load all CVs asynchronously using concurrency
+     * Only the first page is fetched; the rest follow as the table is scrolled
      */
     private void loadAllCVsAsync() {
+        showPagedList();
         updateStatus("Loading CVs...");
         
-        cvRepository.refreshObservableListAsync()
+        cvListModel.refreshAsync()
             .thenRun(() -> Platform.runLater(() -> {
-                updateStatus("Loaded " + cvObservableList.size() + " CVs");
+                updateLoadedStatus();
+                fillTable();
             }))
             .exceptionally(throwable -> {
                 Platform.runLater(() -> {
@@ -135,27 +259,90 @@ public class CVListController {
             });
     }
 
+    /**
+     * Append the next page of CVs unless search results are showing
+     */
+    private void loadNextPageAsync() {
+        if (showingSearchResults || !cvListModel.hasMorePages()) {
+            return;
+        }
+        cvListModel.loadNextPageAsync()
+            .thenAccept(loaded -> Platform.runLater(() -> {
+                if (loaded) {
+                    updateLoadedStatus();
+                    fillTable();
+                }
+            }))
+            .exceptionally(throwable -> {
+                Platform.runLater(() -> updateStatus("Error loading more CVs"));
+                return null;
+            });
+    }
+
+    private void updateLoadedStatus() {
+        updateStatus("Loaded " + cvObservableList.size() + (cvListModel.hasMorePages() ? "+" : "") + " CVs");
+    }
+
+    /**
+     * Run the search immediately, skipping the debounce delay
+     */
+    private void searchNow() {
+        searchDebounce.stop();
+        searchCVs();
+    }
+
     /**
      * Search CVs by name asynchronously
+     * Each search gets a generation number so a slow, older query can never
+     * overwrite newer results. When the term extends the previous one and no
+     * CV was saved, updated or deleted since, the previous results are narrowed
+     * in memory instead of querying again.
      */
     private void searchCVs() {
         String searchTerm = searchField.getText().trim();
-        
+        long generation = ++searchGeneration;
+        cancelInFlightSearch();
+
         if (searchTerm.isEmpty()) {
-            refreshList();
+            lastSearchTerm = null;
+            lastSearchResults = null;
+            if (showingSearchResults) {
+                showPagedList();
+                updateLoadedStatus();
+            }
+            return;
+        }
+
+        String needle = searchTerm.toLowerCase(Locale.ROOT);
+        if (lastSearchResults != null && lastSearchChangeCount == changeCount.get() && needle.contains(lastSearchTerm)) {
+            List<CVSummary> narrowed = lastSearchResults.stream()
+                .filter(cv -> cv.fullName() != null && cv.fullName().toLowerCase(Locale.ROOT).contains(needle))
+                .toList();
+            showSearchResults(needle, narrowed, lastSearchChangeCount);
             return;
         }
 
         updateStatus("Searching...");
         
-        cvRepository.searchByNameAsync(searchTerm)
+        long changesBeforeQuery = changeCount.get();
+        inFlightQuery = new QueryCanceller();
+        inFlightSearch = cvRepository.searchSummariesByNameAsync(searchTerm, inFlightQuery);
+        inFlightSearch
             .thenAccept(results -> Platform.runLater(() -> {
-                cvObservableList.clear();
-                cvObservableList.addAll(results);
-                updateStatus("Found " + results.size() + " CVs");
+                if (generation == searchGeneration) {
+                    inFlightSearch = null;
+                    inFlightQuery = null;
+                    showSearchResults(needle, results, changesBeforeQuery);
+                }
             }))
             .exceptionally(throwable -> {
+                if (throwable instanceof CancellationException || throwable.getCause() instanceof CancellationException) {
+                    return null;
+                }
                 Platform.runLater(() -> {
+                    if (generation != searchGeneration) {
+                        return;
+                    }
                     showError("Search Error", "Failed to search CVs: " + throwable.getMessage());
                     updateStatus("Search failed");
                 });
@@ -163,11 +350,48 @@ public class CVListController {
             });
     }
 
+    private void showSearchResults(String term, List<CVSummary> results, long changesBeforeQuery) {
+        lastSearchTerm = term;
+        lastSearchResults = results;
+        lastSearchChangeCount = changesBeforeQuery;
+        showingSearchResults = true;
+        searchResults.setAll(results);
+        cvTableView.setItems(searchResults);
+        updateStatus("Found " + results.size() + " CVs");
+    }
+
+    /**
+     * Put the paged list back in the table; it is already up to date
+     */
+    private void showPagedList() {
+        showingSearchResults = false;
+        searchResults.clear();
+        cvTableView.setItems(cvObservableList);
+    }
+
+    /**
+     * Stop the running search query, freeing its reader connection, and drop its result
+     */
+    private void cancelInFlightSearch() {
+        if (inFlightSearch != null) {
+            inFlightQuery.cancel();
+            inFlightSearch.cancel(false);
+            inFlightSearch = null;
+            inFlightQuery = null;
+        }
+    }
+
     /**
      * Refresh the list
      */
     private void refreshList() {
+        searchGeneration++;
+        cancelInFlightSearch();
+        lastSearchTerm = null;
+        lastSearchResults = null;
         searchField.clear();
+        // Clearing the field schedules a debounced search; the reload below replaces it
+        searchDebounce.stop();
         loadAllCVsAsync();
     }
 
@@ -175,35 +399,59 @@ public class CVListController {
      * View selected CV
      */
     private void viewSelectedCV() {
-        CV selectedCV = cvTableView.getSelectionModel().getSelectedItem();
+        CVSummary selectedCV = cvTableView.getSelectionModel().getSelectedItem();
         
         if (selectedCV == null) {
             showWarning("No Selection", "Please select a CV to view");
             return;
         }
 
-        sceneManager.showCVPreviewScene(selectedCV);
+        loadFullCVAsync(selectedCV, sceneManager::showCVPreviewScene);
     }
 
     /**
      * Edit selected CV
      */
     private void editSelectedCV() {
-        CV selectedCV = cvTableView.getSelectionModel().getSelectedItem();
+        CVSummary selectedCV = cvTableView.getSelectionModel().getSelectedItem();
         
         if (selectedCV == null) {
             showWarning("No Selection", "Please select a CV to edit");
             return;
         }
 
-        sceneManager.showCVFormScene(selectedCV);
+        loadFullCVAsync(selectedCV, sceneManager::showCVFormScene);
+    }
+
+    /**
+     * Load the full CV with all its sections for a list row, then hand it to the target scene
+     */
+    private void loadFullCVAsync(CVSummary summary, Consumer<CV> onLoaded) {
+        updateStatus("Loading CV...");
+
+        cvRepository.findByIdAsync(summary.id())
+            .thenAccept(cv -> Platform.runLater(() -> {
+                if (cv == null) {
+                    showWarning("Not Found", "This CV no longer exists");
+                    updateStatus("CV not found");
+                    return;
+                }
+                onLoaded.accept(CV.fromSnapshot(cv));
+            }))
+            .exceptionally(throwable -> {
+                Platform.runLater(() -> {
+                    showError("Load Error", "Failed to load CV: " + throwable.getMessage());
+                    updateStatus("Error loading CV");
+                });
+                return null;
+            });
     }
 
     /**
      * Delete selected CV with confirmation
      */
     private void deleteSelectedCV() {
-        CV selectedCV = cvTableView.getSelectionModel().getSelectedItem();
+        CVSummary selectedCV = cvTableView.getSelectionModel().getSelectedItem();
         
         if (selectedCV == null) {
             showWarning("No Selection", "Please select a CV to delete");
@@ -212,7 +460,7 @@ public class CVListController {
 
         Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
         confirmAlert.setTitle("Confirm Delete");
-        confirmAlert.setHeaderText("Delete CV: " + selectedCV.getFullName());
+        confirmAlert.setHeaderText("Delete CV: " + selectedCV.fullName());
         confirmAlert.setContentText("Are you sure you want to delete this CV? This action cannot be undone.");
 
         Optional<ButtonType> result = confirmAlert.showAndWait();
@@ -220,8 +468,9 @@ public class CVListController {
         if (result.isPresent() && result.get() == ButtonType.OK) {
             updateStatus("Deleting CV...");
             
-            cvRepository.deleteAsync(selectedCV.getId())
+            cvRepository.deleteAsync(selectedCV.id())
                 .thenRun(() -> Platform.runLater(() -> {
+                    searchResults.removeIf(cv -> cv.id() == selectedCV.id());
                     showInfo("Success", "CV deleted successfully");
                     updateStatus("CV deleted");
                 }))
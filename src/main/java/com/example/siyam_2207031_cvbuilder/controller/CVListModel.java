@@ -0,0 +1,133 @@
+package com.example.siyam_2207031_cvbuilder.controller;
+
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.model.CVSummary;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The CV table's rows: pages of summaries from CVRepository, newest first,
+ * kept in step with every save, update and delete
+ *
+ * Pages are read with keyset paging through CVRepository.findPageAsync and
+ * repository changes arrive through a ChangeDispatcher, so the repository
+ * itself never touches JavaFX. Paging state is only touched on the JavaFX thread.
+ */
+public class CVListModel {
+    private static CVListModel instance;
+
+    private final CVRepository repository;
+    private final ObservableList<CVSummary> items = FXCollections.observableArrayList();
+    // id -> row position in items, so reconciling a change is not a linear scan
+    private final IdIndex<CVSummary> index = new IdIndex<>(items, CVSummary::id);
+    // Applies save/update/delete results to items in batches on the FX thread
+    private final ChangeDispatcher changeDispatcher = new ChangeDispatcher(items, index, Platform::runLater);
+
+    private CVSummary lastPageRow;
+    private boolean hasMorePages;
+    private boolean pageLoadInFlight;
+    private int pageGeneration;
+
+    private CVListModel(CVRepository repository) {
+        this.repository = repository;
+        repository.addChangeListener(changeDispatcher);
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static synchronized CVListModel getInstance() {
+        if (instance == null) {
+            instance = new CVListModel(CVRepository.getInstance());
+        }
+        return instance;
+    }
+
+    /**
+     * Observable list of CV summaries (for JavaFX bindings)
+     * Holds the pages loaded so far, newest first
+     */
+    public ObservableList<CVSummary> getItems() {
+        return items;
+    }
+
+    /**
+     * Reload the list from the database asynchronously
+     * Loads only the first page; further pages come from loadNextPageAsync
+     */
+    public CompletableFuture<Void> refreshAsync() {
+        CompletableFuture<Integer> generation = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            pageGeneration++;
+            pageLoadInFlight = true;
+            generation.complete(pageGeneration);
+        });
+        return generation.thenCompose(gen -> repository.findFirstPageAsync()
+            .whenComplete((page, error) -> Platform.runLater(() -> {
+                if (gen != pageGeneration) {
+                    return;
+                }
+                if (error != null) {
+                    pageLoadInFlight = false;
+                } else {
+                    items.setAll(page);
+                    applyPage(page);
+                }
+            })))
+            .thenApply(page -> null);
+    }
+
+    /**
+     * Append the next page to the list. Must be called on the JavaFX thread.
+     * Completes with false when there is nothing more to load or a page load
+     * is already running.
+     */
+    public CompletableFuture<Boolean> loadNextPageAsync() {
+        if (!hasMorePages || pageLoadInFlight || lastPageRow == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        pageLoadInFlight = true;
+        int gen = pageGeneration;
+        CompletableFuture<Boolean> loaded = new CompletableFuture<>();
+        repository.findPageAsync(lastPageRow.createdAt(), lastPageRow.id(), repository.getPageSize())
+            .whenComplete((page, error) -> Platform.runLater(() -> {
+                if (gen != pageGeneration) {
+                    loaded.complete(false);
+                } else if (error != null) {
+                    pageLoadInFlight = false;
+                    loaded.completeExceptionally(error);
+                } else {
+                    items.addAll(page);
+                    applyPage(page);
+                    loaded.complete(!page.isEmpty());
+                }
+            }));
+        return loaded;
+    }
+
+    /**
+     * Whether the last page load suggested more rows exist beyond the loaded pages
+     */
+    public boolean hasMorePages() {
+        return hasMorePages;
+    }
+
+    private void applyPage(List<CVSummary> page) {
+        pageLoadInFlight = false;
+        hasMorePages = page.size() == repository.getPageSize();
+        if (!page.isEmpty()) {
+            lastPageRow = page.get(page.size() - 1);
+        }
+    }
+
+    /**
+     * Queue depth and batch statistics of the FX-thread change dispatch
+     */
+    public ChangeDispatcher.DispatchMetrics getChangeDispatchMetrics() {
+        return changeDispatcher.getMetrics();
+    }
+}
@@ -2,38 +2,57 @@ package com.example.siyam_2207031_cvbuilder.controller;
 
 import com.example.siyam_2207031_cvbuilder.model.CV;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
+import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import javafx.geometry.Insets;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Controller for the CV Preview Screen
+ *
+ * The CV is shown as a flat list of rows (header, section headings, entries)
+ * in a ListView, so only the rows on screen get nodes and opening or
+ * scrolling a CV with hundreds of entries costs about the same as a short one.
  */
-public class CVPreviewController {
+public class CVPreviewController implements ManagedController {
+    private static final String SUMMARY = "Dedicated professional with strong technical skills and proven experience.";
+
+    /**
+     * The kinds of preview row; all but the header are entry layouts
+     */
+    private enum Kind {
+        HEADER(null),
+        HEADING(EntryNodeFactory.Layout.PREVIEW_HEADING),
+        TEXT(EntryNodeFactory.Layout.PREVIEW_TEXT),
+        EXPERIENCE(EntryNodeFactory.Layout.PREVIEW_EXPERIENCE),
+        EDUCATION(EntryNodeFactory.Layout.PREVIEW_EDUCATION),
+        SKILL(EntryNodeFactory.Layout.PREVIEW_SKILL),
+        PROJECT(EntryNodeFactory.Layout.PREVIEW_PROJECT);
+
+        private final EntryNodeFactory.Layout layout;
+
+        Kind(EntryNodeFactory.Layout layout) {
+            this.layout = layout;
+        }
+    }
+
+    /**
+     * One row of the preview: its kind and the text of each of its labels
+     */
+    private record PreviewRow(Kind kind, String... texts) {
+    }
 
     @FXML
-    private VBox cvContainer;
-    @FXML
-    private VBox headerSection;
-    @FXML
-    private Label fullNameLabel;
-    @FXML
-    private Label emailLabel;
-    @FXML
-    private Label phoneLabel;
-    @FXML
-    private Label addressLabel;
-    @FXML
-    private Label summaryLabel;
-    @FXML
-    private VBox experienceSection;
-    @FXML
-    private VBox educationSection;
-    @FXML
-    private VBox skillsSection;
-    @FXML
-    private VBox projectsSection;
+    private ListView<PreviewRow> previewList;
     @FXML
     private Button editButton;
     @FXML
@@ -41,110 +60,139 @@ public class CVPreviewController {
 
     private SceneManager sceneManager;
     private CV cv;
+    // Builds the nodes of each kind of row, styled from styles.css
+    private final EntryNodeFactory entryFactory = new EntryNodeFactory();
 
     @FXML
     public void initialize() {
+        previewList.setCellFactory(list -> new PreviewCell(entryFactory));
         editButton.setOnAction(event -> sceneManager.showCVFormScene());
         homeButton.setOnAction(event -> sceneManager.showHomeScene());
     }
 
+    @Override
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
     }
 
+    /**
+     * Drop the previous CV's rows before the screen is reused; the cells and
+     * their nodes stay for the next CV
+     */
+    @Override
+    public void reset() {
+        cv = null;
+        previewList.getItems().clear();
+    }
+
     public void loadCV(CV cv) {
         this.cv = cv;
         displayCV();
     }
 
     private void displayCV() {
-        // Set personal information
-        fullNameLabel.setText(cv.getFullName());
-        emailLabel.setText("✉ " + cv.getEmail());
-        phoneLabel.setText("☎ " + cv.getPhoneNumber());
-        addressLabel.setText("📍 " + cv.getAddress());
+        List<PreviewRow> rows = new ArrayList<>(8 + cv.getExperiences().size() + cv.getEducations().size()
+            + cv.getSkills().size() + cv.getProjects().size());
+
+        // Personal information and summary
+        rows.add(new PreviewRow(Kind.HEADER, cv.getFullName(),
+            "✉ " + cv.getEmail(), "☎ " + cv.getPhoneNumber(), "📍 " + cv.getAddress()));
+        rows.add(new PreviewRow(Kind.HEADING, "PROFESSIONAL SUMMARY"));
+        rows.add(new PreviewRow(Kind.TEXT, SUMMARY));
 
-        // Display Work Experience
+        // Work Experience
+        rows.add(new PreviewRow(Kind.HEADING, "WORK EXPERIENCE"));
         for (CV.Experience experience : cv.getExperiences()) {
-            VBox experienceEntry = createExperienceEntry(experience);
-            experienceSection.getChildren().add(experienceEntry);
+            rows.add(new PreviewRow(Kind.EXPERIENCE,
+                experience.getPosition(),
+                experience.getCompany(),
+                experience.getStartDate() + " - " + experience.getEndDate(),
+                experience.getDescription()));
         }
 
-        // Display Education
+        // Education
+        rows.add(new PreviewRow(Kind.HEADING, "EDUCATION"));
         for (CV.Education education : cv.getEducations()) {
-            VBox educationEntry = createEducationEntry(education);
-            educationSection.getChildren().add(educationEntry);
+            rows.add(new PreviewRow(Kind.EDUCATION,
+                education.getInstitution(),
+                education.getDegree() + " in " + education.getFieldOfStudy(),
+                "Graduation: " + education.getGraduationYear()));
         }
 
-        // Display Skills
-        if (!cv.getSkills().isEmpty()) {
-            for (String skill : cv.getSkills()) {
-                Label skillLabel = new Label("• " + skill);
-                skillLabel.setStyle("-fx-font-size: 11; -fx-text-fill: #34495E;");
-                skillsSection.getChildren().add(skillLabel);
-            }
+        // Skills
+        rows.add(new PreviewRow(Kind.HEADING, "SKILLS"));
+        for (String skill : cv.getSkills()) {
+            rows.add(new PreviewRow(Kind.SKILL, "• " + skill));
         }
 
-        // Display Projects
+        // Projects
+        rows.add(new PreviewRow(Kind.HEADING, "PROJECTS"));
         for (CV.Project project : cv.getProjects()) {
-            VBox projectEntry = createProjectEntry(project);
-            projectsSection.getChildren().add(projectEntry);
+            rows.add(new PreviewRow(Kind.PROJECT,
+                project.getTitle(),
+                "Technologies: " + project.getTechnologies(),
+                project.getDescription()));
         }
-    }
 
-    private VBox createExperienceEntry(CV.Experience experience) {
-        VBox entry = new VBox(3);
-        entry.setPadding(new Insets(10, 0, 10, 0));
-
-        Label position = new Label(experience.getPosition());
-        position.setStyle("-fx-font-size: 12; -fx-font-weight: bold; -fx-text-fill: #2C3E50;");
-
-        Label company = new Label(experience.getCompany());
-        company.setStyle("-fx-font-size: 11; -fx-text-fill: #3498DB; -fx-font-weight: bold;");
-
-        Label dates = new Label(experience.getStartDate() + " - " + experience.getEndDate());
-        dates.setStyle("-fx-font-size: 10; -fx-text-fill: #7F8C8D; -fx-font-style: italic;");
-
-        Label description = new Label(experience.getDescription());
-        description.setStyle("-fx-font-size: 11; -fx-text-fill: #34495E;");
-        description.setWrapText(true);
-
-        entry.getChildren().addAll(position, company, dates, description);
-        return entry;
-    }
-
-    private VBox createEducationEntry(CV.Education education) {
-        VBox entry = new VBox(3);
-        entry.setPadding(new Insets(10, 0, 10, 0));
-
-        Label institution = new Label(education.getInstitution());
-        institution.setStyle("-fx-font-size: 12; -fx-font-weight: bold; -fx-text-fill: #2C3E50;");
-
-        Label degree = new Label(education.getDegree() + " in " + education.getFieldOfStudy());
-        degree.setStyle("-fx-font-size: 11; -fx-text-fill: #3498DB;");
-
-        Label year = new Label("Graduation: " + education.getGraduationYear());
-        year.setStyle("-fx-font-size: 10; -fx-text-fill: #7F8C8D; -fx-font-style: italic;");
-
-        entry.getChildren().addAll(institution, degree, year);
-        return entry;
+        previewList.getItems().setAll(rows);
+        previewList.scrollTo(0);
     }
 
-    private VBox createProjectEntry(CV.Project project) {
-        VBox entry = new VBox(3);
-        entry.setPadding(new Insets(10, 0, 10, 0));
-
-        Label title = new Label(project.getTitle());
-        title.setStyle("-fx-font-size: 12; -fx-font-weight: bold; -fx-text-fill: #2C3E50;");
+    /**
+     * Shows any kind of row, keeping one node per kind and rebinding its text
+     * as the cell is reused for other rows
+     */
+    private static final class PreviewCell extends ListCell<PreviewRow> {
+        private final EntryNodeFactory entryFactory;
+        private final Map<Kind, VBox> graphics = new EnumMap<>(Kind.class);
+
+        PreviewCell(EntryNodeFactory entryFactory) {
+            this.entryFactory = entryFactory;
+            setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+            // Let the list size the cell to its own width, so long text wraps
+            // instead of widening the list
+            setPrefWidth(0);
+        }
 
-        Label technologies = new Label("Technologies: " + project.getTechnologies());
-        technologies.setStyle("-fx-font-size: 10; -fx-text-fill: #3498DB; -fx-font-weight: bold;");
+        @Override
+        protected void updateItem(PreviewRow row, boolean empty) {
+            super.updateItem(row, empty);
+            if (empty || row == null) {
+                setGraphic(null);
+                return;
+            }
+            VBox graphic = graphics.get(row.kind());
+            if (graphic == null) {
+                graphic = row.kind() == Kind.HEADER ? createHeader() : entryFactory.entry(row.kind().layout);
+                graphics.put(row.kind(), graphic);
+            }
+            if (row.kind() == Kind.HEADER) {
+                bindHeader(graphic, row.texts());
+            } else {
+                entryFactory.bind(graphic, row.texts());
+            }
+            setGraphic(graphic);
+        }
 
-        Label description = new Label(project.getDescription());
-        description.setStyle("-fx-font-size: 11; -fx-text-fill: #34495E;");
-        description.setWrapText(true);
+        private static VBox createHeader() {
+            HBox contact = new HBox(EntryNodeFactory.newLabel("cv-preview-contact-item"),
+                EntryNodeFactory.newLabel("cv-preview-contact-item"),
+                EntryNodeFactory.newLabel("cv-preview-contact-item"));
+            contact.getStyleClass().add("cv-preview-contact");
+            VBox header = new VBox(EntryNodeFactory.newLabel("cv-preview-name"), contact);
+            header.getStyleClass().add("cv-preview-header");
+            return header;
+        }
 
-        entry.getChildren().addAll(title, technologies, description);
-        return entry;
+        /**
+         * Name first, then email, phone and address
+         */
+        private static void bindHeader(VBox header, String[] texts) {
+            ((Label) header.getChildren().get(0)).setText(texts[0]);
+            List<Node> contact = ((HBox) header.getChildren().get(1)).getChildren();
+            for (int i = 1; i < texts.length; i++) {
+                ((Label) contact.get(i - 1)).setText(texts[i]);
+            }
+        }
     }
 }
@@ -0,0 +1,252 @@
+package com.example.siyam_2207031_cvbuilder.controller;
+
+import com.example.siyam_2207031_cvbuilder.database.CVChangeListener;
+import com.example.siyam_2207031_cvbuilder.model.CVSummary;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects repository mutations from worker threads and applies them to the
+ * observable CV list in batches on the JavaFX thread
+ *
+ * Only one drain task is queued on the FX thread at a time, so a burst of saves
+ * turns into one pass over the list instead of one Platform.runLater per CV.
+ * Mutations for the same id are merged (last write wins) before they are applied.
+ */
+public class ChangeDispatcher implements CVChangeListener {
+    // Above this many updates or removals a batch is applied with one setAll/removeIf
+    private static final int BULK_THRESHOLD = 32;
+
+    private final ObservableList<CVSummary> list;
+    private final IdIndex<CVSummary> index;
+    private final Executor fxExecutor;
+    private final ConcurrentLinkedQueue<Mutation> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong mutationsQueued = new AtomicLong();
+    private final AtomicLong batchesApplied = new AtomicLong();
+    private final AtomicInteger lastBatchSize = new AtomicInteger();
+    private final AtomicInteger maxBatchSize = new AtomicInteger();
+
+    ChangeDispatcher(ObservableList<CVSummary> list, IdIndex<CVSummary> index, Executor fxExecutor) {
+        this.list = list;
+        this.index = index;
+        this.fxExecutor = fxExecutor;
+    }
+
+    @Override
+    public void added(CVSummary summary) {
+        enqueue(new Mutation(Kind.ADDED, summary.id(), summary));
+    }
+
+    @Override
+    public void updated(CVSummary summary) {
+        enqueue(new Mutation(Kind.UPDATED, summary.id(), summary));
+    }
+
+    @Override
+    public void removed(long id) {
+        enqueue(new Mutation(Kind.REMOVED, id, null));
+    }
+
+    private void enqueue(Mutation mutation) {
+        pending.add(mutation);
+        queueDepth.incrementAndGet();
+        mutationsQueued.incrementAndGet();
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                fxExecutor.execute(this::drain);
+            } catch (IllegalStateException e) {
+                // No JavaFX toolkit (headless tools and benchmarks): apply in place
+                synchronized (this) {
+                    drain();
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply everything queued so far. Runs on the JavaFX thread.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+
+        // Merge per id, keeping first-seen order; an add followed by a remove cancels out
+        Map<Long, Mutation> merged = new LinkedHashMap<>();
+        int drained = 0;
+        Mutation mutation;
+        while ((mutation = pending.poll()) != null) {
+            drained++;
+            Mutation previous = merged.get(mutation.id);
+            if (previous == null) {
+                merged.put(mutation.id, mutation);
+            } else if (previous.kind == Kind.ADDED && mutation.kind == Kind.REMOVED) {
+                merged.remove(mutation.id);
+            } else if (previous.kind == Kind.ADDED) {
+                merged.put(mutation.id, new Mutation(Kind.ADDED, mutation.id, mutation.summary));
+            } else {
+                merged.put(mutation.id, mutation);
+            }
+        }
+        queueDepth.addAndGet(-drained);
+        if (drained == 0) {
+            return;
+        }
+
+        List<CVSummary> additions = new ArrayList<>();
+        Map<Long, CVSummary> updates = new LinkedHashMap<>();
+        Set<Long> removals = new HashSet<>();
+        for (Mutation change : merged.values()) {
+            switch (change.kind) {
+                case ADDED -> {
+                    // A page refresh may already have loaded the new row; replace it rather than show it twice
+                    if (index.indexOf(change.id) >= 0) {
+                        updates.put(change.id, change.summary);
+                    } else {
+                        additions.add(change.summary);
+                    }
+                }
+                case UPDATED -> updates.put(change.id, change.summary);
+                case REMOVED -> removals.add(change.id);
+            }
+        }
+
+        applyRemovals(removals);
+        applyUpdates(updates);
+        if (!additions.isEmpty()) {
+            // Newest first, in one range insert at the top
+            Collections.reverse(additions);
+            list.addAll(0, additions);
+        }
+
+        batchesApplied.incrementAndGet();
+        lastBatchSize.set(drained);
+        maxBatchSize.accumulateAndGet(drained, Math::max);
+    }
+
+    private void applyRemovals(Set<Long> removals) {
+        if (removals.size() > BULK_THRESHOLD) {
+            list.removeIf(summary -> removals.contains(summary.id()));
+            return;
+        }
+        for (long id : removals) {
+            int position = index.indexOf(id);
+            if (position >= 0) {
+                list.remove(position);
+            }
+        }
+    }
+
+    private void applyUpdates(Map<Long, CVSummary> updates) {
+        if (updates.size() > BULK_THRESHOLD) {
+            List<CVSummary> replaced = new ArrayList<>(list);
+            boolean changed = false;
+            for (Map.Entry<Long, CVSummary> update : updates.entrySet()) {
+                int position = index.indexOf(update.getKey());
+                if (position >= 0) {
+                    replaced.set(position, update.getValue());
+                    changed = true;
+                }
+            }
+            if (changed) {
+                list.setAll(replaced);
+            }
+            return;
+        }
+        for (CVSummary summary : updates.values()) {
+            int position = index.indexOf(summary.id());
+            if (position >= 0) {
+                list.set(position, summary);
+            }
+        }
+    }
+
+    DispatchMetrics getMetrics() {
+        return new DispatchMetrics(queueDepth.get(), mutationsQueued.get(), batchesApplied.get(),
+            lastBatchSize.get(), maxBatchSize.get());
+    }
+
+    private enum Kind { ADDED, UPDATED, REMOVED }
+
+    private static class Mutation {
+        private final Kind kind;
+        private final long id;
+        private final CVSummary summary;
+
+        Mutation(Kind kind, long id, CVSummary summary) {
+            this.kind = kind;
+            this.id = id;
+            this.summary = summary;
+        }
+    }
+
+    /**
+     * Point-in-time statistics of the change dispatcher
+     */
+    public static class DispatchMetrics {
+        private final int queueDepth;
+        private final long mutationsQueued;
+        private final long batchesApplied;
+        private final int lastBatchSize;
+        private final int maxBatchSize;
+
+        DispatchMetrics(int queueDepth, long mutationsQueued, long batchesApplied,
+                        int lastBatchSize, int maxBatchSize) {
+            this.queueDepth = queueDepth;
+            this.mutationsQueued = mutationsQueued;
+            this.batchesApplied = batchesApplied;
+            this.lastBatchSize = lastBatchSize;
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public long getMutationsQueued() {
+            return mutationsQueued;
+        }
+
+        public long getBatchesApplied() {
+            return batchesApplied;
+        }
+
+        public int getLastBatchSize() {
+            return lastBatchSize;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        /**
+         * Mean number of mutations folded into one FX-thread pass
+         */
+        public double getAverageBatchSize() {
+            return batchesApplied == 0 ? 0 : (mutationsQueued - queueDepth) / (double) batchesApplied;
+        }
+
+        @Override
+        public String toString() {
+            return "DispatchMetrics{" +
+                    "queueDepth=" + queueDepth +
+                    ", mutationsQueued=" + mutationsQueued +
+                    ", batchesApplied=" + batchesApplied +
+                    ", lastBatchSize=" + lastBatchSize +
+                    ", maxBatchSize=" + maxBatchSize +
+                    '}';
+        }
+    }
+}
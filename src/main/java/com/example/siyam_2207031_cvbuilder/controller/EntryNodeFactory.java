@@ -0,0 +1,137 @@
+package com.example.siyam_2207031_cvbuilder.controller;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Builds the entry boxes of the preview and form screens and recycles them
+ *
+ * All styling comes from style classes in styles.css, so JavaFX resolves a few
+ * shared selectors instead of parsing an inline style string for every label.
+ * Entries released back to the factory are kept and rebound with new text
+ * later, so redisplaying a CV does not rebuild its nodes. Only used on the
+ * JavaFX thread.
+ */
+final class EntryNodeFactory {
+    private static final String LAYOUT_KEY = EntryNodeFactory.class.getName();
+    private static final int MAX_POOLED_PER_LAYOUT = 256;
+
+    /**
+     * The shape of one kind of entry: the box's style class and one style class
+     * per label, in display order, optionally followed by a Remove button
+     */
+    enum Layout {
+        PREVIEW_EXPERIENCE(false, "cv-entry", "cv-entry-title", "cv-entry-company", "cv-entry-meta", "cv-entry-text"),
+        PREVIEW_EDUCATION(false, "cv-entry", "cv-entry-title", "cv-entry-degree", "cv-entry-meta"),
+        PREVIEW_PROJECT(false, "cv-entry", "cv-entry-title", "cv-entry-tech", "cv-entry-text"),
+        PREVIEW_HEADING(false, "cv-preview-section", "cv-preview-heading"),
+        PREVIEW_TEXT(false, "cv-preview-block", "cv-entry-text"),
+        PREVIEW_SKILL(false, "cv-preview-skill", "cv-skill"),
+        FORM_EDUCATION(true, "entry-card", "entry-card-title", "entry-card-text", "entry-card-meta"),
+        FORM_EXPERIENCE(true, "entry-card", "entry-card-title", "entry-card-text", "entry-card-meta", "entry-card-description"),
+        FORM_PROJECT(true, "entry-card", "entry-card-title", "entry-card-tech", "entry-card-description");
+
+        private final boolean removable;
+        private final String boxClass;
+        private final String[] labelClasses;
+
+        Layout(boolean removable, String boxClass, String... labelClasses) {
+            this.removable = removable;
+            this.boxClass = boxClass;
+            this.labelClasses = labelClasses;
+        }
+    }
+
+    private final Map<Layout, ArrayDeque<VBox>> pools = new EnumMap<>(Layout.class);
+
+    /**
+     * An entry showing the given texts, one per label of the layout
+     */
+    VBox entry(Layout layout, String... texts) {
+        ArrayDeque<VBox> pool = pools.get(layout);
+        VBox box = pool != null && !pool.isEmpty() ? pool.pop() : create(layout);
+        bind(box, texts);
+        return box;
+    }
+
+    /**
+     * A removable form card; onRemove gets the card when its Remove button is pressed
+     */
+    VBox card(Layout layout, Consumer<VBox> onRemove, String... texts) {
+        VBox card = entry(layout, texts);
+        List<Node> children = card.getChildren();
+        ((Button) children.get(children.size() - 1)).setOnAction(event -> onRemove.accept(card));
+        return card;
+    }
+
+    /**
+     * Show new texts in an entry created by this factory
+     */
+    void bind(VBox entry, String... texts) {
+        List<Node> children = entry.getChildren();
+        for (int i = 0; i < texts.length; i++) {
+            ((Label) children.get(i)).setText(texts[i]);
+        }
+    }
+
+    /**
+     * Remove every child of the container, keeping those this factory built for reuse
+     */
+    void releaseAll(Pane container) {
+        ObservableList<Node> children = container.getChildren();
+        for (Node child : children) {
+            recycle(child);
+        }
+        children.clear();
+    }
+
+    /**
+     * Remove one entry from its container and keep it for reuse
+     */
+    void release(Pane container, Node entry) {
+        if (container.getChildren().remove(entry)) {
+            recycle(entry);
+        }
+    }
+
+    private void recycle(Node node) {
+        if (node instanceof VBox box && box.getProperties().get(LAYOUT_KEY) instanceof Layout layout) {
+            ArrayDeque<VBox> pool = pools.computeIfAbsent(layout, l -> new ArrayDeque<>());
+            if (pool.size() < MAX_POOLED_PER_LAYOUT) {
+                if (layout.removable) {
+                    ((Button) box.getChildren().get(box.getChildren().size() - 1)).setOnAction(null);
+                }
+                pool.push(box);
+            }
+        }
+    }
+
+    private static VBox create(Layout layout) {
+        VBox box = new VBox();
+        box.getStyleClass().add(layout.boxClass);
+        box.getProperties().put(LAYOUT_KEY, layout);
+        for (String labelClass : layout.labelClasses) {
+            box.getChildren().add(newLabel(labelClass));
+        }
+        if (layout.removable) {
+            box.getChildren().add(new Button("Remove"));
+        }
+        return box;
+    }
+
+    static Label newLabel(String styleClass) {
+        Label label = new Label();
+        label.getStyleClass().add(styleClass);
+        return label;
+    }
+}
@@ -8,7 +8,7 @@ import javafx.scene.control.Button;
  * Controller for the Home Screen with enhanced features
  * Supports JSON import/export and database operations
  */
-public class HomeController {
+public class HomeController implements ManagedController {
 
     @FXML
     private Button createNewCVButton;
@@ -23,6 +23,7 @@ public class HomeController {
         viewAllCVsButton.setOnAction(event -> sceneManager.showCVListScene());
     }
 
+    @Override
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
     }
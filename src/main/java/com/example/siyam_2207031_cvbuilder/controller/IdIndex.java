@@ -0,0 +1,147 @@
+package com.example.siyam_2207031_cvbuilder.controller;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * id to position index over an ObservableList, kept in step through its change events
+ *
+ * Every row owns a slot in a Fenwick tree of live/dead flags; its position is the
+ * number of live slots before it. Replacing a row reuses its slot, removing a row
+ * clears its slot, and adding at either end takes a free slot from spare room kept
+ * at both ends, so all of those are O(log n). Inserts in the middle and permutations
+ * (sorts) mark the index stale; it is rebuilt once, in O(n), by the next lookup.
+ *
+ * Like the list itself, it must only be used from the thread that mutates the list.
+ */
+public class IdIndex<T> {
+    private final ObservableList<T> list;
+    private final ToLongFunction<T> idOf;
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    // Fenwick tree over slot liveness, 1-based
+    private int[] tree;
+    private int capacity;
+    // Slots [headSlot, tailSlot) have been handed out; the rest are spare room
+    private int headSlot;
+    private int tailSlot;
+    private boolean stale;
+
+    public IdIndex(ObservableList<T> list, ToLongFunction<T> idOf) {
+        this.list = list;
+        this.idOf = idOf;
+        rebuild();
+        list.addListener(this::onChanged);
+    }
+
+    /**
+     * Position of the row with this id, or -1 if it is not in the list
+     */
+    public int indexOf(long id) {
+        if (stale) {
+            rebuild();
+        }
+        Integer slot = slotById.get(id);
+        return slot != null ? liveBefore(slot) : -1;
+    }
+
+    public boolean contains(long id) {
+        return indexOf(id) >= 0;
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (stale) {
+                continue;
+            }
+            if (change.wasPermutated()) {
+                stale = true;
+            } else if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                // set(i, row) and equal-size replacements: each new row takes over its predecessor's slot
+                for (int i = 0; i < change.getRemovedSize(); i++) {
+                    Integer slot = slotById.remove(idOf.applyAsLong(change.getRemoved().get(i)));
+                    if (slot == null) {
+                        stale = true;
+                        break;
+                    }
+                    slotById.put(idOf.applyAsLong(change.getAddedSubList().get(i)), slot);
+                }
+            } else {
+                for (T removed : change.getRemoved()) {
+                    Integer slot = slotById.remove(idOf.applyAsLong(removed));
+                    if (slot != null) {
+                        add(slot, -1);
+                    }
+                }
+                if (change.wasAdded()) {
+                    onAdded(change.getFrom(), change.getTo());
+                }
+            }
+        }
+    }
+
+    private void onAdded(int from, int to) {
+        int added = to - from;
+        if (from == 0 && headSlot >= added && list.size() > added) {
+            // Prepend into the spare room before the first row
+            headSlot -= added;
+            for (int i = 0; i < added; i++) {
+                assignSlot(list.get(i), headSlot + i);
+            }
+        } else if (to == list.size() && tailSlot + added <= capacity) {
+            // Append into the spare room after the last row
+            for (int i = from; i < to; i++) {
+                assignSlot(list.get(i), tailSlot++);
+            }
+        } else {
+            stale = true;
+        }
+    }
+
+    private void assignSlot(T row, int slot) {
+        slotById.put(idOf.applyAsLong(row), slot);
+        add(slot, 1);
+    }
+
+    /**
+     * Renumber every row with fresh spare room at both ends
+     */
+    private void rebuild() {
+        int size = list.size();
+        int spare = size / 2 + 16;
+        capacity = size + 2 * spare;
+        tree = new int[capacity + 1];
+        headSlot = spare;
+        tailSlot = spare + size;
+        slotById.clear();
+        for (int i = 0; i < size; i++) {
+            slotById.put(idOf.applyAsLong(list.get(i)), headSlot + i);
+            tree[headSlot + i + 1] = 1;
+        }
+        // Linear-time Fenwick construction
+        for (int i = 1; i <= capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+        stale = false;
+    }
+
+    private void add(int slot, int delta) {
+        for (int i = slot + 1; i <= capacity; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int liveBefore(int slot) {
+        int count = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.siyam_2207031_cvbuilder.controller;
+
+/**
+ * A screen controller owned by SceneManager. Each screen is loaded once and
+ * its controller reused, so it is reset before being shown again.
+ */
+interface ManagedController {
+
+    void setSceneManager(SceneManager sceneManager);
+
+    /**
+     * Called on the JavaFX thread just before the screen is shown for the first
+     * time. FXML initialize may run on SceneManager's preload thread, so binding
+     * to shared state and starting data loads belong here instead.
+     */
+    default void onFirstShow() {
+    }
+
+    /**
+     * Return the screen to its freshly loaded state; called on the JavaFX thread
+     * before a cached screen is shown again
+     */
+    default void reset() {
+    }
+}
@@ -2,96 +2,280 @@ package com.example.siyam_2207031_cvbuilder.controller;
 
 import com.example.siyam_2207031_cvbuilder.model.CV;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.ScrollPane;
 import javafx.stage.Stage;
+
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 /**
  * Manager class to handle scene transitions throughout the application
+ *
+ * Each screen's FXML and stylesheet are parsed once; its scene and controller
+ * are cached and reused, with the controller reset before the screen is shown
+ * again. preloadScenes parses the other screens on a background thread so the
+ * first visit to them is fast too.
+ *
+ * Every transition is timed from the navigation call to the first layout
+ * pulse of the new scene. Set -Dcvbuilder.scene.logTransitions=true to print
+ * each one.
  */
 public class SceneManager {
+    private static final String FXML_DIR = "/com/example/siyam_2207031_cvbuilder/fxml/";
+    private static final boolean LOG_TRANSITIONS = Boolean.getBoolean("cvbuilder.scene.logTransitions");
+
+    /**
+     * The application's screens with their FXML file and initial scene size
+     */
+    private enum View {
+        HOME("home.fxml", 800, 600),
+        CV_FORM("cvForm.fxml", 1000, 700),
+        CV_LIST("cvList.fxml", 1200, 700),
+        CV_PREVIEW("cvPreview.fxml", 1000, 800);
+
+        private final String fxml;
+        private final double width;
+        private final double height;
+
+        View(String fxml, double width, double height) {
+            this.fxml = fxml;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * A parsed screen; the Scene is created on the JavaFX thread at first show
+     */
+    private static final class LoadedView {
+        private final Parent root;
+        private final ManagedController controller;
+        private Scene scene;
+        private boolean shown;
+
+        LoadedView(Parent root, ManagedController controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+    }
+
     private Stage primaryStage;
-    private CVFormController cvFormController;
-    private CVPreviewController cvPreviewController;
+    // Loaded or loading screens; only touched on the JavaFX thread
+    private final Map<View, CompletableFuture<LoadedView>> views = new EnumMap<>(View.class);
+    private final Map<View, TransitionStats> transitionStats = new EnumMap<>(View.class);
 
     public SceneManager(Stage primaryStage) {
         this.primaryStage = primaryStage;
     }
 
     public void showHomeScene() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/siyam_2207031_cvbuilder/fxml/home.fxml"));
-            Scene scene = new Scene(loader.load(), 800, 600);
+        show(View.HOME, "CV Builder - Home", HomeController.class, controller -> { });
+    }
 
-            HomeController controller = loader.getController();
-            controller.setSceneManager(this);
+    public void showCVFormScene() {
+        show(View.CV_FORM, "CV Builder - Create CV", CVFormController.class, controller -> { });
+    }
 
-            primaryStage.setScene(scene);
-            primaryStage.setTitle("CV Builder - Home");
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    public void showCVFormScene(CV cv) {
+        show(View.CV_FORM, "CV Builder - Edit CV", CVFormController.class, controller -> controller.loadCV(cv));
     }
 
-    public void showCVFormScene() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/siyam_2207031_cvbuilder/fxml/cvForm.fxml"));
-            Scene scene = new Scene(loader.load(), 1000, 700);
+    public void showCVListScene() {
+        show(View.CV_LIST, "CV Builder - All CVs", CVListController.class, controller -> { });
+    }
 
-            cvFormController = loader.getController();
-            cvFormController.setSceneManager(this);
+    public void showCVPreviewScene(CV cv) {
+        show(View.CV_PREVIEW, "CV Builder - Preview CV", CVPreviewController.class, controller -> controller.loadCV(cv));
+    }
 
-            primaryStage.setScene(scene);
-            primaryStage.setTitle("CV Builder - Create CV");
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Parse every screen not yet loaded on a background thread, in the order a
+     * user usually visits them. Call from the JavaFX thread once the first
+     * scene is showing. Completes when all of them are parsed.
+     */
+    public CompletableFuture<Void> preloadScenes() {
+        ExecutorService preloader = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "CV-Scene-Preload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<LoadedView>> preloads = new ArrayList<>();
+        for (View view : new View[] {View.CV_LIST, View.CV_FORM, View.CV_PREVIEW}) {
+            preloads.add(views.computeIfAbsent(view, v -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return load(v);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, preloader)));
         }
+        preloader.shutdown();
+        return CompletableFuture.allOf(preloads.toArray(CompletableFuture<?>[]::new));
     }
 
-    public void showCVFormScene(CV cv) {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/siyam_2207031_cvbuilder/fxml/cvForm.fxml"));
-            Scene scene = new Scene(loader.load(), 1000, 700);
+    /**
+     * Transition timings of each screen visited so far
+     */
+    public List<TransitionStats> getTransitionStats() {
+        return new ArrayList<>(transitionStats.values());
+    }
 
-            cvFormController = loader.getController();
-            cvFormController.setSceneManager(this);
-            cvFormController.loadCV(cv);
+    private <C extends ManagedController> void show(View view, String title, Class<C> type, Consumer<C> bind) {
+        long start = System.nanoTime();
+        try {
+            boolean preloaded = isLoaded(view);
+            LoadedView loaded = obtain(view);
+            C controller = type.cast(loaded.controller);
+            if (loaded.shown) {
+                controller.reset();
+                scrollToTop(loaded.root);
+            } else {
+                controller.onFirstShow();
+            }
+            if (loaded.scene == null) {
+                loaded.scene = new Scene(loaded.root, view.width, view.height);
+            }
+            bind.accept(controller);
+            loaded.shown = true;
 
-            primaryStage.setScene(scene);
-            primaryStage.setTitle("CV Builder - Edit CV");
+            primaryStage.setScene(loaded.scene);
+            primaryStage.setTitle(title);
+            recordTransition(view, loaded.scene, start, preloaded);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
-    public void showCVListScene() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/siyam_2207031_cvbuilder/fxml/cvList.fxml"));
-            Scene scene = new Scene(loader.load(), 1200, 700);
+    private boolean isLoaded(View view) {
+        CompletableFuture<LoadedView> pending = views.get(view);
+        return pending != null && pending.isDone() && !pending.isCompletedExceptionally();
+    }
 
-            CVListController controller = loader.getController();
-            controller.setSceneManager(this);
+    /**
+     * The cached screen, waiting for its preload if one is running, or parsed
+     * here if it was never requested or its preload failed
+     */
+    private LoadedView obtain(View view) throws IOException {
+        CompletableFuture<LoadedView> pending = views.get(view);
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                System.err.println("Preloading " + view.fxml + " failed, loading again: " + e.getCause());
+            }
+        }
+        LoadedView loaded = load(view);
+        views.put(view, CompletableFuture.completedFuture(loaded));
+        return loaded;
+    }
 
-            primaryStage.setScene(scene);
-            primaryStage.setTitle("CV Builder - All CVs");
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Parse the FXML (and its stylesheet) and wire up the controller; safe off
+     * the JavaFX thread since nothing is attached to a scene yet and controllers
+     * leave shared state to onFirstShow
+     */
+    private LoadedView load(View view) throws IOException {
+        FXMLLoader loader = new FXMLLoader(getClass().getResource(FXML_DIR + view.fxml));
+        Parent root = loader.load();
+        ManagedController controller = loader.getController();
+        controller.setSceneManager(this);
+        return new LoadedView(root, controller);
+    }
+
+    private static void scrollToTop(Parent root) {
+        for (Node node : root.lookupAll(".scroll-pane")) {
+            if (node instanceof ScrollPane scrollPane) {
+                scrollPane.setVvalue(scrollPane.getVmin());
+            }
         }
     }
 
-    public void showCVPreviewScene(CV cv) {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/siyam_2207031_cvbuilder/fxml/cvPreview.fxml"));
-            Scene scene = new Scene(loader.load(), 1000, 800);
+    /**
+     * Record the time from navigation to the end of the new scene's first layout
+     */
+    private void recordTransition(View view, Scene scene, long start, boolean preloaded) {
+        long shownNanos = System.nanoTime() - start;
+        Runnable firstLayout = new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                long totalNanos = System.nanoTime() - start;
+                transitionStats.computeIfAbsent(view, v -> new TransitionStats(v.name()))
+                    .record(shownNanos, totalNanos, preloaded);
+                if (LOG_TRANSITIONS) {
+                    System.out.printf("Scene %s: shown in %.1f ms, laid out in %.1f ms%s%n", view,
+                        shownNanos / 1e6, totalNanos / 1e6, preloaded ? " (preloaded)" : "");
+                }
+            }
+        };
+        scene.addPostLayoutPulseListener(firstLayout);
+    }
 
-            cvPreviewController = loader.getController();
-            cvPreviewController.setSceneManager(this);
-            cvPreviewController.loadCV(cv);
+    /**
+     * Timing of the transitions to one screen
+     */
+    public static class TransitionStats {
+        private final String view;
+        private long transitions;
+        private long preloadedTransitions;
+        private long totalShownNanos;
+        private long totalNanos;
+        private long maxNanos;
 
-            primaryStage.setScene(scene);
-            primaryStage.setTitle("CV Builder - Preview CV");
-        } catch (IOException e) {
-            e.printStackTrace();
+        TransitionStats(String view) {
+            this.view = view;
+        }
+
+        void record(long shownNanos, long nanos, boolean preloaded) {
+            transitions++;
+            if (preloaded) {
+                preloadedTransitions++;
+            }
+            totalShownNanos += shownNanos;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public String getView() {
+            return view;
+        }
+
+        public long getTransitions() {
+            return transitions;
+        }
+
+        public long getPreloadedTransitions() {
+            return preloadedTransitions;
+        }
+
+        public double getAverageShownMillis() {
+            return transitions == 0 ? 0 : totalShownNanos / 1e6 / transitions;
+        }
+
+        public double getAverageMillis() {
+            return transitions == 0 ? 0 : totalNanos / 1e6 / transitions;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d transitions (%d preloaded), avg %.1f ms to show, avg %.1f ms / max %.1f ms to first layout",
+                view, transitions, preloadedTransitions, getAverageShownMillis(), getAverageMillis(), getMaxMillis());
         }
     }
 }
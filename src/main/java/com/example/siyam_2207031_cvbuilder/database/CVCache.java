@@ -0,0 +1,241 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of fully hydrated CVs, keyed by id
+ *
+ * Bounded both by entry count and by an estimate of the retained string data.
+ * Entries are immutable snapshots, so they are handed out as they are, without
+ * copying. An optional TTL expires entries that were cached too long ago, e.g.
+ * when other processes share the file.
+ */
+public class CVCache {
+    // Rough per-object cost of a snapshot with its arrays, and of one child entry
+    private static final long CV_OVERHEAD_BYTES = 160;
+    private static final long ENTRY_OVERHEAD_BYTES = 48;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long retainedBytes;
+    // Bumped by every invalidation, so a load that raced with a write is not cached
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    /**
+     * @param maxEntries max CVs held; 0 disables the cache
+     * @param maxBytes   max estimated bytes held
+     * @param ttlSeconds seconds an entry stays valid; 0 means no expiry
+     */
+    CVCache(int maxEntries, long maxBytes, long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * The cached CV, or null on a miss
+     */
+    CVSnapshot get(long cvId) {
+        if (!isEnabled()) {
+            return null;
+        }
+        CVSnapshot cached;
+        synchronized (this) {
+            Entry entry = entries.get(cvId);
+            if (entry != null && ttlNanos > 0 && System.nanoTime() - entry.cachedAt > ttlNanos) {
+                remove(cvId);
+                expirations.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            cached = entry.cv;
+        }
+        hits.incrementAndGet();
+        return cached;
+    }
+
+    /**
+     * Token to take before loading a CV from the database and pass to put
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Cache a freshly loaded CV, unless an invalidation happened since the
+     * generation token was taken
+     */
+    void put(CVSnapshot cv, long loadedAtGeneration) {
+        if (!isEnabled()) {
+            return;
+        }
+        long size = estimateSize(cv);
+        synchronized (this) {
+            if (loadedAtGeneration != generation || size > maxBytes) {
+                return;
+            }
+            remove(cv.id());
+            entries.put(cv.id(), new Entry(cv, size, System.nanoTime()));
+            retainedBytes += size;
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while ((entries.size() > maxEntries || retainedBytes > maxBytes) && eldest.hasNext()) {
+                retainedBytes -= eldest.next().size;
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Drop the cached copy of a CV that was updated or deleted
+     */
+    synchronized void invalidate(long cvId) {
+        generation++;
+        remove(cvId);
+    }
+
+    synchronized void clear() {
+        generation++;
+        entries.clear();
+        retainedBytes = 0;
+    }
+
+    private void remove(long cvId) {
+        Entry removed = entries.remove(cvId);
+        if (removed != null) {
+            retainedBytes -= removed.size;
+        }
+    }
+
+    synchronized CacheStats getStats() {
+        return new CacheStats(entries.size(), retainedBytes, hits.get(), misses.get(),
+            evictions.get(), expirations.get());
+    }
+
+    /**
+     * Estimated heap retained by a CV: two bytes per character plus fixed overheads
+     */
+    private static long estimateSize(CVSnapshot cv) {
+        long chars = length(cv.fullName()) + length(cv.email()) + length(cv.phoneNumber())
+            + length(cv.address()) + length(cv.profilePhoto());
+        long objects = 0;
+        for (CVSnapshot.Education edu : cv.educations()) {
+            chars += length(edu.institution()) + length(edu.degree())
+                + length(edu.fieldOfStudy()) + length(edu.graduationYear());
+            objects += 5;
+        }
+        for (CVSnapshot.Experience exp : cv.experiences()) {
+            chars += length(exp.company()) + length(exp.position()) + length(exp.startDate())
+                + length(exp.endDate()) + length(exp.description());
+            objects += 6;
+        }
+        for (CVSnapshot.Project proj : cv.projects()) {
+            chars += length(proj.title()) + length(proj.description()) + length(proj.technologies());
+            objects += 4;
+        }
+        for (String skill : cv.skills()) {
+            chars += length(skill);
+            objects++;
+        }
+        return CV_OVERHEAD_BYTES + objects * ENTRY_OVERHEAD_BYTES + chars * 2;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static class Entry {
+        private final CVSnapshot cv;
+        private final long size;
+        private final long cachedAt;
+
+        Entry(CVSnapshot cv, long size, long cachedAt) {
+            this.cv = cv;
+            this.size = size;
+            this.cachedAt = cachedAt;
+        }
+    }
+
+    /**
+     * Point-in-time statistics of the hydrated CV cache
+     */
+    public static class CacheStats {
+        private final int size;
+        private final long retainedBytes;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+
+        CacheStats(int size, long retainedBytes, long hits, long misses, long evictions, long expirations) {
+            this.size = size;
+            this.retainedBytes = retainedBytes;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public long getRetainedBytes() {
+            return retainedBytes;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getExpirations() {
+            return expirations;
+        }
+
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : hits / (double) lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStats{" +
+                    "size=" + size +
+                    ", retainedBytes=" + retainedBytes +
+                    ", hits=" + hits +
+                    ", misses=" + misses +
+                    ", evictions=" + evictions +
+                    ", expirations=" + expirations +
+                    '}';
+        }
+    }
+}
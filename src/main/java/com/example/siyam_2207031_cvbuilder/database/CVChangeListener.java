@@ -0,0 +1,19 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSummary;
+
+/**
+ * Told about every CV change CVRepository commits, e.g. to keep a list on
+ * screen in step with the database
+ *
+ * Called on the thread that committed the change, after the commit, so
+ * implementations must be quick and hand UI work over to their own thread.
+ */
+public interface CVChangeListener {
+
+    void added(CVSummary summary);
+
+    void updated(CVSummary summary);
+
+    void removed(long id);
+}
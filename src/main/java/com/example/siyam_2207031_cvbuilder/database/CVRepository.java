@@ -1,35 +1,66 @@
 package com.example.siyam_2207031_cvbuilder.database;
 
-import com.example.siyam_2207031_cvbuilder.model.CV;
-import javafx.application.Platform;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+import com.example.siyam_2207031_cvbuilder.model.CVSummary;
 
 import java.sql.*;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Repository class for CV database operations with concurrency support
  * Uses ExecutorService for asynchronous operations and CompletableFuture for async patterns
  */
 public class CVRepository {
+    // Max ids bound per "cv_id IN (...)" query, well under SQLite's host parameter limit
+    private static final int BULK_LOAD_CHUNK_SIZE = 500;
+    private static final int DEFAULT_PAGE_SIZE = Integer.getInteger("cvbuilder.list.pageSize", 100);
+    // created_at is stored as CURRENT_TIMESTAMP text; keyset cursors must be bound in the same form
+    private static final DateTimeFormatter DB_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int CACHE_MAX_ENTRIES = Integer.getInteger("cvbuilder.cache.maxEntries", 256);
+    private static final long CACHE_MAX_BYTES = Long.getLong("cvbuilder.cache.maxBytes", 32L * 1024 * 1024);
+    private static final long CACHE_TTL_SECONDS = Long.getLong("cvbuilder.cache.ttlSeconds", 0);
+    // Primary result code SQLite returns for a malformed full-text query
+    private static final int SQLITE_ERROR = 1;
+    private static final int WRITE_BEHIND_MAX_BATCH = Integer.getInteger("cvbuilder.db.writeBehind.maxBatch", 64);
+    private static final long WRITE_BEHIND_MAX_DELAY_MS = Long.getLong("cvbuilder.db.writeBehind.maxDelayMs", 20);
+
     private static CVRepository instance;
     private final DatabaseManager dbManager;
-    private final ExecutorService executorService;
-    private final ObservableList<CV> cvObservableList;
+    private volatile int batchSize = Integer.getInteger("cvbuilder.db.batchSize", 100);
+    // Runs the *Async operations; replaceable through setExecutor
+    private volatile ExecutorService executorService;
+    // Told about every committed save, update and delete
+    private final List<CVChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    // Hydrated CVs served by findById without touching SQLite
+    private final CVCache cvCache = new CVCache(CACHE_MAX_ENTRIES, CACHE_MAX_BYTES, CACHE_TTL_SECONDS);
+    // Group-commit queue for saveAsync/updateAsync, null unless write-behind mode is on
+    private volatile WriteBehindQueue writeBehind;
+    // First list page read ahead at startup, used once by findFirstPageAsync if still current
+    private final AtomicReference<PrefetchedPage> prefetchedFirstPage = new AtomicReference<>();
+
+    private record PrefetchedPage(List<CVSummary> rows, long writeCount) {
+    }
 
     private CVRepository() {
         this.dbManager = DatabaseManager.getInstance();
-        // Create a thread pool with 5 threads for concurrent operations
-        this.executorService = Executors.newFixedThreadPool(5, r -> {
-            Thread thread = new Thread(r);
-            thread.setDaemon(true);
-            thread.setName("CV-Repository-Thread");
-            return thread;
-        });
-        this.cvObservableList = FXCollections.observableArrayList();
+        this.executorService = RepositoryExecutors.fromSystemProperty(dbManager);
+        if (Boolean.getBoolean("cvbuilder.db.writeBehind")) {
+            try {
+                setWriteBehindEnabled(true);
+            } catch (SQLException e) {
+                System.err.println("Failed to enable write-behind mode: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -43,16 +74,57 @@ public class CVRepository {
     }
 
     /**
-     * Get observable list of CVs (for JavaFX bindings)
+     * Register a listener for committed CV changes
+     */
+    public void addChangeListener(CVChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(CVChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Executor running the *Async operations
+     */
+    public ExecutorService getExecutor() {
+        return executorService;
+    }
+
+    /**
+     * Run the *Async operations on another executor, e.g. one from
+     * RepositoryExecutors. Tasks already submitted finish on the old executor,
+     * which is shut down.
+     */
+    public void setExecutor(ExecutorService executor) {
+        ExecutorService previous = executorService;
+        executorService = executor;
+        previous.shutdown();
+    }
+
+    /**
+     * Rows per JDBC executeBatch call when saving child collections
      */
-    public ObservableList<CV> getObservableList() {
-        return cvObservableList;
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.batchSize = batchSize;
     }
 
     /**
      * Save CV asynchronously using CompletableFuture
+     * In write-behind mode the save is queued and committed with others in a group
      */
-    public CompletableFuture<Long> saveAsync(CV cv) {
+    public CompletableFuture<Long> saveAsync(CVSnapshot cv) {
+        WriteBehindQueue queue = writeBehind;
+        if (queue != null) {
+            return queue.save(cv);
+        }
         return CompletableFuture.supplyAsync(() -> {
             try {
                 return save(cv);
@@ -63,50 +135,105 @@ public class CVRepository {
     }
 
     /**
-     * Save CV to database (synchronous)
+     * Save CV to database (synchronous) and return its generated id
      */
-    public long save(CV cv) throws SQLException {
+    public long save(CVSnapshot cv) throws SQLException {
         dbManager.beginTransaction();
         try {
-            // Insert CV main record
-            String cvQuery = """
-                INSERT INTO cv (full_name, email, phone_number, address, profile_photo)
-                VALUES (?, ?, ?, ?, ?)
-            """;
-            long cvId = dbManager.executeInsert(cvQuery, 
-                cv.getFullName(), cv.getEmail(), cv.getPhoneNumber(), 
-                cv.getAddress(), cv.getProfilePhoto());
-            
-            cv.setId(cvId);
+            long cvId = insertRows(cv);
+            dbManager.commitTransaction();
 
-            // Insert educations
-            saveEducations(cvId, cv.getEducations());
+            CVSummary summary = CVSummary.of(cv.withId(cvId));
+            changeListeners.forEach(listener -> listener.added(summary));
 
-            // Insert experiences
-            saveExperiences(cvId, cv.getExperiences());
+            return cvId;
+        } catch (SQLException e) {
+            dbManager.rollbackTransaction();
+            throw e;
+        }
+    }
 
-            // Insert projects
-            saveProjects(cvId, cv.getProjects());
+    /**
+     * Insert a CV with its child rows and search document, inside the caller's transaction
+     */
+    private long insertRows(CVSnapshot cv) throws SQLException {
+        // Insert CV main record
+        String cvQuery = """
+            INSERT INTO cv (full_name, email, phone_number, address, profile_photo)
+            VALUES (?, ?, ?, ?, ?)
+        """;
+        long cvId = dbManager.executeInsert(cvQuery, 
+            cv.fullName(), cv.email(), cv.phoneNumber(), 
+            cv.address(), cv.profilePhoto());
 
-            // Insert skills
-            saveSkills(cvId, cv.getSkills());
+        // Insert educations
+        saveEducations(cvId, Arrays.asList(cv.educations()));
 
-            dbManager.commitTransaction();
+        // Insert experiences
+        saveExperiences(cvId, Arrays.asList(cv.experiences()));
 
-            // Update observable list on JavaFX thread
-            Platform.runLater(() -> cvObservableList.add(cv));
+        // Insert projects
+        saveProjects(cvId, Arrays.asList(cv.projects()));
 
-            return cvId;
+        // Insert skills
+        saveSkills(cvId, Arrays.asList(cv.skills()));
+
+        SearchIndex.index(dbManager, cvId);
+        return cvId;
+    }
+
+    /**
+     * Insert a chunk of new CVs in one transaction, for bulk imports
+     * Child rows of the whole chunk go out as one JDBC batch per table and the
+     * search documents are built set-based. Returns the generated ids in the
+     * order of the CVs; on failure nothing is written. Change listeners are
+     * not told; callers refresh their lists once the import is done.
+     */
+    public long[] saveAll(List<CVSnapshot> cvs) throws SQLException {
+        String cvQuery = """
+            INSERT INTO cv (full_name, email, phone_number, address, profile_photo)
+            VALUES (?, ?, ?, ?, ?)
+        """;
+        List<Object[]> educations = new ArrayList<>();
+        List<Object[]> experiences = new ArrayList<>();
+        List<Object[]> projects = new ArrayList<>();
+        List<Object[]> skills = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(cvs.size());
+
+        dbManager.beginTransaction();
+        try {
+            for (CVSnapshot cv : cvs) {
+                long cvId = dbManager.executeInsert(cvQuery,
+                    cv.fullName(), cv.email(), cv.phoneNumber(),
+                    cv.address(), cv.profilePhoto());
+                ids.add(cvId);
+                addEducationRows(educations, cvId, Arrays.asList(cv.educations()));
+                addExperienceRows(experiences, cvId, Arrays.asList(cv.experiences()));
+                addProjectRows(projects, cvId, Arrays.asList(cv.projects()));
+                addSkillRows(skills, cvId, Arrays.asList(cv.skills()));
+            }
+            dbManager.executeBatch(INSERT_EDUCATION, educations, batchSize);
+            dbManager.executeBatch(INSERT_EXPERIENCE, experiences, batchSize);
+            dbManager.executeBatch(INSERT_PROJECT, projects, batchSize);
+            dbManager.executeBatch(INSERT_SKILL, skills, batchSize);
+            SearchIndex.indexNew(dbManager, ids, BULK_LOAD_CHUNK_SIZE);
+            dbManager.commitTransaction();
         } catch (SQLException e) {
             dbManager.rollbackTransaction();
             throw e;
         }
+        return ids.stream().mapToLong(Long::longValue).toArray();
     }
 
     /**
      * Update CV asynchronously
+     * In write-behind mode the update is queued and committed with others in a group
      */
-    public CompletableFuture<Void> updateAsync(CV cv) {
+    public CompletableFuture<Void> updateAsync(CVSnapshot cv) {
+        WriteBehindQueue queue = writeBehind;
+        if (queue != null) {
+            return queue.update(cv).thenApply(id -> null);
+        }
         return CompletableFuture.runAsync(() -> {
             try {
                 update(cv);
@@ -119,39 +246,117 @@ public class CVRepository {
     /**
      * Update CV in database
      */
-    public void update(CV cv) throws SQLException {
+    public void update(CVSnapshot cv) throws SQLException {
         dbManager.beginTransaction();
         try {
-            // Update CV main record
-            String cvQuery = """
-                UPDATE cv SET full_name = ?, email = ?, phone_number = ?, 
-                address = ?, profile_photo = ?, updated_at = CURRENT_TIMESTAMP
-                WHERE id = ?
-            """;
-            dbManager.executeUpdate(cvQuery, 
-                cv.getFullName(), cv.getEmail(), cv.getPhoneNumber(), 
-                cv.getAddress(), cv.getProfilePhoto(), cv.getId());
-
-            // Delete and reinsert related records
-            deleteRelatedRecords(cv.getId());
-            saveEducations(cv.getId(), cv.getEducations());
-            saveExperiences(cv.getId(), cv.getExperiences());
-            saveProjects(cv.getId(), cv.getProjects());
-            saveSkills(cv.getId(), cv.getSkills());
-
+            updateRows(cv);
             dbManager.commitTransaction();
+            // Also discards any copy a concurrent findById is about to cache
+            cvCache.invalidate(cv.id());
 
-            // Update observable list on JavaFX thread
-            Platform.runLater(() -> {
-                int index = findCVIndex(cv.getId());
-                if (index >= 0) {
-                    cvObservableList.set(index, cv);
+            CVSummary summary = CVSummary.of(cv);
+            changeListeners.forEach(listener -> listener.updated(summary));
+        } catch (SQLException e) {
+            dbManager.rollbackTransaction();
+            throw e;
+        }
+    }
+
+    /**
+     * Update a CV, its changed child rows and its search document, inside the caller's transaction
+     */
+    private void updateRows(CVSnapshot cv) throws SQLException {
+        // Update CV main record
+        String cvQuery = """
+            UPDATE cv SET full_name = ?, email = ?, phone_number = ?, 
+            address = ?, profile_photo = ?, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ?
+        """;
+        dbManager.executeUpdate(cvQuery, 
+            cv.fullName(), cv.email(), cv.phoneNumber(), 
+            cv.address(), cv.profilePhoto(), cv.id());
+
+        // Apply only the child rows that changed
+        syncEducations(cv.id(), cv.educations());
+        syncExperiences(cv.id(), cv.experiences());
+        syncProjects(cv.id(), cv.projects());
+        syncSkills(cv.id(), cv.skills());
+
+        SearchIndex.index(dbManager, cv.id());
+    }
+
+    /**
+     * Commit a group of queued writes in one transaction, then publish them
+     */
+    private void writeGroup(List<WriteBehindQueue.PendingWrite> writes) throws SQLException {
+        dbManager.beginTransaction();
+        try {
+            for (WriteBehindQueue.PendingWrite write : writes) {
+                if (write.insert) {
+                    write.snapshot = write.snapshot.withId(insertRows(write.snapshot));
+                } else {
+                    updateRows(write.snapshot);
                 }
-            });
+            }
+            dbManager.commitTransaction();
         } catch (SQLException e) {
             dbManager.rollbackTransaction();
             throw e;
         }
+
+        for (WriteBehindQueue.PendingWrite write : writes) {
+            if (write.insert) {
+                CVSummary summary = CVSummary.of(write.snapshot);
+                changeListeners.forEach(listener -> listener.added(summary));
+            } else {
+                cvCache.invalidate(write.snapshot.id());
+                CVSummary summary = CVSummary.of(write.snapshot);
+                changeListeners.forEach(listener -> listener.updated(summary));
+            }
+        }
+    }
+
+    /**
+     * Whether saveAsync/updateAsync go through the group-commit write-behind queue
+     */
+    public boolean isWriteBehindEnabled() {
+        return writeBehind != null;
+    }
+
+    /**
+     * Switch write-behind mode on or off. Turning it on also makes every commit
+     * durable (synchronous=FULL), which the group commits amortise; turning it
+     * off commits whatever is still queued first.
+     */
+    public synchronized void setWriteBehindEnabled(boolean enabled) throws SQLException {
+        if (enabled == (writeBehind != null)) {
+            return;
+        }
+        if (enabled) {
+            dbManager.setDurableCommits(true);
+            writeBehind = new WriteBehindQueue(this::writeGroup, WRITE_BEHIND_MAX_BATCH, WRITE_BEHIND_MAX_DELAY_MS);
+        } else {
+            WriteBehindQueue queue = writeBehind;
+            writeBehind = null;
+            queue.shutdown();
+            dbManager.setDurableCommits(false);
+        }
+    }
+
+    /**
+     * Commit queued writes now instead of waiting for the size or time trigger
+     */
+    public CompletableFuture<Void> flushWrites() {
+        WriteBehindQueue queue = writeBehind;
+        return queue != null ? queue.flushNow() : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Queue and group-commit statistics, or null when write-behind is off
+     */
+    public WriteBehindQueue.WriteBehindStats getWriteBehindStats() {
+        WriteBehindQueue queue = writeBehind;
+        return queue != null ? queue.getStats() : null;
     }
 
     /**
@@ -171,22 +376,36 @@ public class CVRepository {
      * Delete CV from database
      */
     public void delete(long cvId) throws SQLException {
-        String query = "DELETE FROM cv WHERE id = ?";
-        dbManager.executeUpdate(query, cvId);
-
-        // Update observable list on JavaFX thread
-        Platform.runLater(() -> {
-            int index = findCVIndex(cvId);
-            if (index >= 0) {
-                cvObservableList.remove(index);
+        // A queued write for this CV must not land after the delete
+        try {
+            flushWrites().join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
             }
-        });
+            throw new SQLException("Failed to commit queued writes before deleting CV " + cvId, cause);
+        }
+        dbManager.beginTransaction();
+        try {
+            String query = "DELETE FROM cv WHERE id = ?";
+            dbManager.executeUpdate(query, cvId);
+            SearchIndex.remove(dbManager, cvId);
+            dbManager.commitTransaction();
+        } catch (SQLException e) {
+            dbManager.rollbackTransaction();
+            throw e;
+        } finally {
+            cvCache.invalidate(cvId);
+        }
+
+        changeListeners.forEach(listener -> listener.removed(cvId));
     }
 
     /**
      * Find CV by ID asynchronously
      */
-    public CompletableFuture<CV> findByIdAsync(long cvId) {
+    public CompletableFuture<CVSnapshot> findByIdAsync(long cvId) {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 return findById(cvId);
@@ -197,28 +416,46 @@ public class CVRepository {
     }
 
     /**
-     * Find CV by ID
+     * Find CV by ID, or null if there is none
+     * Served from the hydrated CV cache when possible
      */
-    public CV findById(long cvId) throws SQLException {
+    public CVSnapshot findById(long cvId) throws SQLException {
+        CVSnapshot cached = cvCache.get(cvId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cvCache.generation();
+
         String query = "SELECT * FROM cv WHERE id = ?";
-        ResultSet rs = dbManager.executeQuery(query, cvId);
-        
+        CVSnapshot cv;
+        // One read for the cv row and its child rows, so no write lands in between
+        dbManager.beginRead();
         try {
-            if (rs.next()) {
-                CV cv = extractCVFromResultSet(rs);
-                loadRelatedData(cv);
-                return cv;
+            ResultSet rs = dbManager.executeQuery(query, cvId);
+            Hydrating row = null;
+            try {
+                if (rs.next()) {
+                    row = extractCVFromResultSet(rs);
+                }
+            } finally {
+                dbManager.releaseReadLock();
             }
-            return null;
+
+            if (row == null) {
+                return null;
+            }
+            cv = hydrate(Collections.singletonList(row)).get(0);
         } finally {
             dbManager.releaseReadLock();
         }
+        cvCache.put(cv, generation);
+        return cv;
     }
 
     /**
      * Find all CVs asynchronously
      */
-    public CompletableFuture<List<CV>> findAllAsync() {
+    public CompletableFuture<List<CVSnapshot>> findAllAsync() {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 return findAll();
@@ -229,41 +466,141 @@ public class CVRepository {
     }
 
     /**
-     * Find all CVs
+     * Find all CVs, fully hydrated with their child rows
+     * List screens should use findPage or searchSummariesByName instead
      */
-    public List<CV> findAll() throws SQLException {
-        List<CV> cvs = new ArrayList<>();
+    public List<CVSnapshot> findAll() throws SQLException {
+        List<Hydrating> rows = new ArrayList<>();
         String query = "SELECT * FROM cv ORDER BY created_at DESC";
-        ResultSet rs = dbManager.executeQuery(query);
-        
+        dbManager.beginRead();
+        try {
+            ResultSet rs = dbManager.executeQuery(query);
+            try {
+                while (rs.next()) {
+                    rows.add(extractCVFromResultSet(rs));
+                }
+            } finally {
+                dbManager.releaseReadLock();
+            }
+            return hydrate(rows);
+        } finally {
+            dbManager.releaseReadLock();
+        }
+    }
+
+    /**
+     * Stream every CV, fully hydrated, in id order, chunkSize CVs at a time
+     * The cv rows come from one forward-only cursor and the child rows of each
+     * chunk from set-based queries on the same reader connection, so the whole
+     * pass sees one consistent snapshot while holding only one chunk in memory.
+     * Returns the number of CVs streamed.
+     */
+    public long streamAll(int chunkSize, Consumer<List<CVSnapshot>> chunkConsumer) throws SQLException {
+        int size = Math.min(Math.max(1, chunkSize), BULK_LOAD_CHUNK_SIZE);
+        List<Hydrating> chunk = new ArrayList<>(size);
+        long streamed = 0;
+        // The open cursor alone does not pin the snapshot once it is exhausted,
+        // so the last chunk's child rows are read in the same read transaction too
+        dbManager.beginRead();
+        try {
+            ResultSet rs = dbManager.executeQuery("SELECT * FROM cv ORDER BY id");
+            try {
+                while (rs.next()) {
+                    chunk.add(extractCVFromResultSet(rs));
+                    if (chunk.size() == size) {
+                        chunkConsumer.accept(hydrate(chunk));
+                        streamed += chunk.size();
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    chunkConsumer.accept(hydrate(chunk));
+                    streamed += chunk.size();
+                }
+            } finally {
+                dbManager.releaseReadLock();
+            }
+        } finally {
+            dbManager.releaseReadLock();
+        }
+        return streamed;
+    }
+
+    /**
+     * Find one page of CV summaries, newest first, strictly after the given
+     * (createdAt, id) keyset cursor. Pass a null createdAt for the first page.
+     */
+    public CompletableFuture<List<CVSummary>> findPageAsync(Timestamp afterCreatedAt, long afterId, int limit) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return findPage(afterCreatedAt, afterId, limit);
+            } catch (SQLException e) {
+                throw new CompletionException("Failed to load CVs", e);
+            }
+        }, executorService);
+    }
+
+    /**
+     * Find one page of CV summaries using keyset pagination on (created_at, id)
+     * Cost depends on the page size only, not on how deep the page is
+     */
+    public List<CVSummary> findPage(Timestamp afterCreatedAt, long afterId, int limit) throws SQLException {
+        String columns = "SELECT id, full_name, email, phone_number, created_at FROM cv ";
+        String order = " ORDER BY created_at DESC, id DESC LIMIT ?";
+        ResultSet rs;
+        if (afterCreatedAt == null) {
+            rs = dbManager.executeQuery(columns + order, limit);
+        } else {
+            String cursor = afterCreatedAt.toLocalDateTime().format(DB_TIMESTAMP_FORMAT);
+            rs = dbManager.executeQuery(columns + "WHERE (created_at, id) < (?, ?)" + order,
+                cursor, afterId, limit);
+        }
+
+        List<CVSummary> page = new ArrayList<>(limit);
         try {
             while (rs.next()) {
-                CV cv = extractCVFromResultSet(rs);
-                loadRelatedData(cv);
-                cvs.add(cv);
+                page.add(extractSummaryFromResultSet(rs));
             }
-            return cvs;
         } finally {
             dbManager.releaseReadLock();
         }
+        return page;
     }
 
     /**
-     * Refresh observable list from database asynchronously
+     * Rows per list page
      */
-    public CompletableFuture<Void> refreshObservableListAsync() {
-        return findAllAsync().thenAccept(cvs -> 
-            Platform.runLater(() -> {
-                cvObservableList.clear();
-                cvObservableList.addAll(cvs);
-            })
-        );
+    public int getPageSize() {
+        return DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Read the first page of the CV list ahead of time, e.g. during startup, so
+     * the list screen can show it without a query. Returns the rows read.
+     */
+    public int prefetchFirstPage() throws SQLException {
+        long writeCount = dbManager.getWriteCount();
+        List<CVSummary> page = findPage(null, 0, DEFAULT_PAGE_SIZE);
+        prefetchedFirstPage.set(new PrefetchedPage(page, writeCount));
+        return page.size();
+    }
+
+    /**
+     * The first page of the CV list: the prefetched one if nothing was written
+     * since it was read, otherwise a fresh query
+     */
+    public CompletableFuture<List<CVSummary>> findFirstPageAsync() {
+        PrefetchedPage prefetched = prefetchedFirstPage.getAndSet(null);
+        if (prefetched != null && prefetched.writeCount() == dbManager.getWriteCount()) {
+            return CompletableFuture.completedFuture(prefetched.rows());
+        }
+        return findPageAsync(null, 0, DEFAULT_PAGE_SIZE);
     }
 
     /**
      * Search CVs by name asynchronously
      */
-    public CompletableFuture<List<CV>> searchByNameAsync(String name) {
+    public CompletableFuture<List<CVSnapshot>> searchByNameAsync(String name) {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 return searchByName(name);
@@ -276,171 +613,445 @@ public class CVRepository {
     /**
      * Search CVs by name
      */
-    public List<CV> searchByName(String name) throws SQLException {
-        List<CV> cvs = new ArrayList<>();
-        String query = "SELECT * FROM cv WHERE full_name LIKE ? ORDER BY created_at DESC";
-        ResultSet rs = dbManager.executeQuery(query, "%" + name + "%");
-        
+    public List<CVSnapshot> searchByName(String name) throws SQLException {
+        List<Hydrating> rows = new ArrayList<>();
+        String query = "SELECT * FROM cv WHERE full_name LIKE ? ESCAPE '\\' ORDER BY created_at DESC";
+        dbManager.beginRead();
         try {
-            while (rs.next()) {
-                CV cv = extractCVFromResultSet(rs);
-                loadRelatedData(cv);
-                cvs.add(cv);
+            ResultSet rs = dbManager.executeQuery(query, containsPattern(name));
+            try {
+                while (rs.next()) {
+                    rows.add(extractCVFromResultSet(rs));
+                }
+            } finally {
+                dbManager.releaseReadLock();
             }
-            return cvs;
+            return hydrate(rows);
         } finally {
             dbManager.releaseReadLock();
         }
     }
 
-    // Private helper methods
+    /**
+     * Search CV summaries by name asynchronously
+     */
+    public CompletableFuture<List<CVSummary>> searchSummariesByNameAsync(String name) {
+        return searchSummariesByNameAsync(name, new QueryCanceller());
+    }
 
-    private void saveEducations(long cvId, List<CV.Education> educations) throws SQLException {
+    /**
+     * searchSummariesByNameAsync that the canceller can stop, e.g. once the user
+     * has typed past the term; the future then fails
+     */
+    public CompletableFuture<List<CVSummary>> searchSummariesByNameAsync(String name, QueryCanceller canceller) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return searchSummariesByName(name, canceller);
+            } catch (SQLException e) {
+                throw new CompletionException("Failed to search CVs", e);
+            }
+        }, executorService);
+    }
+
+    /**
+     * Search CVs by name, selecting only the list columns and no child rows
+     */
+    public List<CVSummary> searchSummariesByName(String name) throws SQLException {
+        return searchSummariesByName(name, null);
+    }
+
+    private List<CVSummary> searchSummariesByName(String name, QueryCanceller canceller) throws SQLException {
+        List<CVSummary> summaries = new ArrayList<>();
         String query = """
-            INSERT INTO education (cv_id, institution, degree, field_of_study, graduation_year)
-            VALUES (?, ?, ?, ?, ?)
+            SELECT id, full_name, email, phone_number, created_at FROM cv
+            WHERE full_name LIKE ? ESCAPE '\\' ORDER BY created_at DESC, id DESC
         """;
-        for (CV.Education edu : educations) {
-            dbManager.executeUpdate(query, cvId, edu.getInstitution(), 
-                edu.getDegree(), edu.getFieldOfStudy(), edu.getGraduationYear());
+        ResultSet rs = dbManager.executeQuery(canceller, query, containsPattern(name));
+
+        try {
+            while (rs.next()) {
+                summaries.add(extractSummaryFromResultSet(rs));
+            }
+        } finally {
+            dbManager.releaseReadLock();
         }
+        return summaries;
     }
 
-    private void saveExperiences(long cvId, List<CV.Experience> experiences) throws SQLException {
-        String query = """
-            INSERT INTO experience (cv_id, company, position, start_date, end_date, description)
-            VALUES (?, ?, ?, ?, ?, ?)
-        """;
-        for (CV.Experience exp : experiences) {
-            dbManager.executeUpdate(query, cvId, exp.getCompany(), 
-                exp.getPosition(), exp.getStartDate(), exp.getEndDate(), exp.getDescription());
+    /**
+     * Full-text search across names, contact details and every CV section asynchronously
+     */
+    public CompletableFuture<List<CVSummary>> searchFullTextAsync(String query, int limit) {
+        return searchFullTextAsync(query, limit, new QueryCanceller());
+    }
+
+    /**
+     * searchFullTextAsync that the canceller can stop; the future then fails
+     */
+    public CompletableFuture<List<CVSummary>> searchFullTextAsync(String query, int limit, QueryCanceller canceller) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return searchFullText(query, limit, canceller);
+            } catch (SQLException e) {
+                throw new CompletionException("Failed to search CVs", e);
+            }
+        }, executorService);
+    }
+
+    /**
+     * Full-text search using the FTS5 query syntax (e.g. "kafka AND berlin",
+     * "jav*", "skills:python"), best matches first by bm25 rank. Text that is not
+     * a valid query, such as O'Brien or C++, is searched as plain words instead.
+     */
+    public List<CVSummary> searchFullText(String query, int limit) throws SQLException {
+        return searchFullText(query, limit, null);
+    }
+
+    private List<CVSummary> searchFullText(String query, int limit, QueryCanceller canceller) throws SQLException {
+        try {
+            return matchSearchIndex(query, limit, canceller);
+        } catch (SQLException e) {
+            // SQLITE_ERROR is how FTS5 reports a malformed query; an interrupt is not retried
+            if (e.getErrorCode() != SQLITE_ERROR) {
+                throw e;
+            }
+            String plain = SearchIndex.plainQuery(query);
+            return plain.isEmpty() ? new ArrayList<>() : matchSearchIndex(plain, limit, canceller);
         }
     }
 
-    private void saveProjects(long cvId, List<CV.Project> projects) throws SQLException {
-        String query = """
-            INSERT INTO project (cv_id, title, description, technologies)
-            VALUES (?, ?, ?, ?)
+    private List<CVSummary> matchSearchIndex(String query, int limit, QueryCanceller canceller) throws SQLException {
+        List<CVSummary> summaries = new ArrayList<>();
+        String sql = """
+            SELECT cv.id, cv.full_name, cv.email, cv.phone_number, cv.created_at
+            FROM cv_search JOIN cv ON cv.id = cv_search.rowid
+            WHERE cv_search MATCH ? ORDER BY cv_search.rank LIMIT ?
         """;
-        for (CV.Project proj : projects) {
-            dbManager.executeUpdate(query, cvId, proj.getTitle(), 
-                proj.getDescription(), proj.getTechnologies());
+        ResultSet rs = dbManager.executeQuery(canceller, sql, query, limit);
+
+        try {
+            while (rs.next()) {
+                summaries.add(extractSummaryFromResultSet(rs));
+            }
+        } finally {
+            dbManager.releaseReadLock();
         }
+        return summaries;
+    }
+
+    /**
+     * Rebuild the full-text index from scratch, e.g. after rows were changed
+     * outside the repository. Returns the number of CVs indexed.
+     */
+    public int rebuildSearchIndex() throws SQLException {
+        return SearchIndex.rebuild(dbManager);
+    }
+
+    // Private helper methods
+
+    /**
+     * LIKE pattern matching names that contain the term literally
+     */
+    private static String containsPattern(String term) {
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static final String INSERT_EDUCATION = """
+        INSERT INTO education (cv_id, institution, degree, field_of_study, graduation_year)
+        VALUES (?, ?, ?, ?, ?)
+    """;
+    private static final String INSERT_EXPERIENCE = """
+        INSERT INTO experience (cv_id, company, position, start_date, end_date, description)
+        VALUES (?, ?, ?, ?, ?, ?)
+    """;
+    private static final String INSERT_PROJECT = """
+        INSERT INTO project (cv_id, title, description, technologies)
+        VALUES (?, ?, ?, ?)
+    """;
+    private static final String INSERT_SKILL = "INSERT INTO skill (cv_id, skill_name) VALUES (?, ?)";
+
+    private void saveEducations(long cvId, List<CVSnapshot.Education> educations) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(educations.size());
+        addEducationRows(rows, cvId, educations);
+        dbManager.executeBatch(INSERT_EDUCATION, rows, batchSize);
+    }
+
+    private void saveExperiences(long cvId, List<CVSnapshot.Experience> experiences) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(experiences.size());
+        addExperienceRows(rows, cvId, experiences);
+        dbManager.executeBatch(INSERT_EXPERIENCE, rows, batchSize);
+    }
+
+    private void saveProjects(long cvId, List<CVSnapshot.Project> projects) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(projects.size());
+        addProjectRows(rows, cvId, projects);
+        dbManager.executeBatch(INSERT_PROJECT, rows, batchSize);
     }
 
     private void saveSkills(long cvId, List<String> skills) throws SQLException {
-        String query = "INSERT INTO skill (cv_id, skill_name) VALUES (?, ?)";
+        List<Object[]> rows = new ArrayList<>(skills.size());
+        addSkillRows(rows, cvId, skills);
+        dbManager.executeBatch(INSERT_SKILL, rows, batchSize);
+    }
+
+    private static void addEducationRows(List<Object[]> rows, long cvId, List<CVSnapshot.Education> educations) {
+        for (CVSnapshot.Education edu : educations) {
+            rows.add(new Object[]{cvId, edu.institution(),
+                edu.degree(), edu.fieldOfStudy(), edu.graduationYear()});
+        }
+    }
+
+    private static void addExperienceRows(List<Object[]> rows, long cvId, List<CVSnapshot.Experience> experiences) {
+        for (CVSnapshot.Experience exp : experiences) {
+            rows.add(new Object[]{cvId, exp.company(),
+                exp.position(), exp.startDate(), exp.endDate(), exp.description()});
+        }
+    }
+
+    private static void addProjectRows(List<Object[]> rows, long cvId, List<CVSnapshot.Project> projects) {
+        for (CVSnapshot.Project proj : projects) {
+            rows.add(new Object[]{cvId, proj.title(),
+                proj.description(), proj.technologies()});
+        }
+    }
+
+    private static void addSkillRows(List<Object[]> rows, long cvId, List<String> skills) {
         for (String skill : skills) {
-            dbManager.executeUpdate(query, cvId, skill);
+            rows.add(new Object[]{cvId, skill});
         }
     }
 
-    private void deleteRelatedRecords(long cvId) throws SQLException {
-        dbManager.executeUpdate("DELETE FROM education WHERE cv_id = ?", cvId);
-        dbManager.executeUpdate("DELETE FROM experience WHERE cv_id = ?", cvId);
-        dbManager.executeUpdate("DELETE FROM project WHERE cv_id = ?", cvId);
-        dbManager.executeUpdate("DELETE FROM skill WHERE cv_id = ?", cvId);
+    private void syncEducations(long cvId, CVSnapshot.Education[] educations) throws SQLException {
+        List<CVSnapshot.Education> inserts = syncChildRows("education",
+            new String[]{"institution", "degree", "field_of_study", "graduation_year"}, cvId, educations,
+            edu -> new Object[]{edu.institution(), edu.degree(), edu.fieldOfStudy(), edu.graduationYear()});
+        saveEducations(cvId, inserts);
     }
 
-    private CV extractCVFromResultSet(ResultSet rs) throws SQLException {
-        CV cv = new CV();
-        cv.setId(rs.getLong("id"));
-        cv.setFullName(rs.getString("full_name"));
-        cv.setEmail(rs.getString("email"));
-        cv.setPhoneNumber(rs.getString("phone_number"));
-        cv.setAddress(rs.getString("address"));
-        cv.setProfilePhoto(rs.getString("profile_photo"));
-        cv.setCreatedAt(rs.getTimestamp("created_at"));
-        cv.setUpdatedAt(rs.getTimestamp("updated_at"));
-        return cv;
+    private void syncExperiences(long cvId, CVSnapshot.Experience[] experiences) throws SQLException {
+        List<CVSnapshot.Experience> inserts = syncChildRows("experience",
+            new String[]{"company", "position", "start_date", "end_date", "description"}, cvId, experiences,
+            exp -> new Object[]{exp.company(), exp.position(), exp.startDate(), exp.endDate(), exp.description()});
+        saveExperiences(cvId, inserts);
+    }
+
+    private void syncProjects(long cvId, CVSnapshot.Project[] projects) throws SQLException {
+        List<CVSnapshot.Project> inserts = syncChildRows("project",
+            new String[]{"title", "description", "technologies"}, cvId, projects,
+            proj -> new Object[]{proj.title(), proj.description(), proj.technologies()});
+        saveProjects(cvId, inserts);
+    }
+
+    private void syncSkills(long cvId, String[] skills) throws SQLException {
+        List<String> inserts = syncChildRows("skill", new String[]{"skill_name"}, cvId, skills,
+            skill -> new Object[]{skill});
+        saveSkills(cvId, inserts);
+    }
+
+    /**
+     * Diff edited child entries against the rows stored for a CV, by position.
+     * Child rows are loaded in row id order, so the stored rows, in id order, are
+     * overwritten where the entry at that position changed, surplus rows are
+     * deleted, and the entries past the stored ones are returned for appending.
+     * That keeps the edited order, including entries inserted mid-list, and issues
+     * no writes at all when nothing in the table changed. Entry ids are not used
+     * for matching; the next load returns the ids by position.
+     */
+    private <T> List<T> syncChildRows(String table, String[] columns, long cvId, T[] entries,
+                                      Function<T, Object[]> valuesOf) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        List<List<Object>> stored = new ArrayList<>();
+        ResultSet rs = dbManager.executeQuery(
+            "SELECT id, " + String.join(", ", columns) + " FROM " + table + " WHERE cv_id = ? ORDER BY id", cvId);
+        try {
+            while (rs.next()) {
+                Object[] values = new Object[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    values[i] = rs.getString(i + 2);
+                }
+                ids.add(rs.getLong(1));
+                stored.add(Arrays.asList(values));
+            }
+        } finally {
+            dbManager.releaseReadLock();
+        }
+
+        int kept = Math.min(ids.size(), entries.length);
+        List<Object[]> updates = new ArrayList<>();
+        for (int i = 0; i < kept; i++) {
+            Object[] values = valuesOf.apply(entries[i]);
+            if (!stored.get(i).equals(Arrays.asList(values))) {
+                Object[] params = Arrays.copyOf(values, values.length + 1);
+                params[values.length] = ids.get(i);
+                updates.add(params);
+            }
+        }
+
+        if (ids.size() > kept) {
+            List<Object[]> deletes = new ArrayList<>(ids.size() - kept);
+            for (Long id : ids.subList(kept, ids.size())) {
+                deletes.add(new Object[]{id});
+            }
+            dbManager.executeBatch("DELETE FROM " + table + " WHERE id = ?", deletes, batchSize);
+        }
+        if (!updates.isEmpty()) {
+            dbManager.executeBatch("UPDATE " + table + " SET " + String.join(" = ?, ", columns)
+                + " = ? WHERE id = ?", updates, batchSize);
+        }
+        return Arrays.asList(entries).subList(kept, entries.length);
     }
 
-    private void loadRelatedData(CV cv) throws SQLException {
-        loadEducations(cv);
-        loadExperiences(cv);
-        loadProjects(cv);
-        loadSkills(cv);
+    private CVSummary extractSummaryFromResultSet(ResultSet rs) throws SQLException {
+        return new CVSummary(
+            rs.getLong("id"),
+            rs.getString("full_name"),
+            rs.getString("email"),
+            rs.getString("phone_number"),
+            rs.getTimestamp("created_at")
+        );
+    }
+
+    private Hydrating extractCVFromResultSet(ResultSet rs) throws SQLException {
+        return new Hydrating(new CVSnapshot(
+            rs.getLong("id"),
+            rs.getString("full_name"),
+            rs.getString("email"),
+            rs.getString("phone_number"),
+            rs.getString("address"),
+            rs.getString("profile_photo"),
+            rs.getTimestamp("created_at"),
+            rs.getTimestamp("updated_at"),
+            null, null, null, null
+        ));
     }
 
-    private void loadEducations(CV cv) throws SQLException {
-        String query = "SELECT * FROM education WHERE cv_id = ?";
-        ResultSet rs = dbManager.executeQuery(query, cv.getId());
+    /**
+     * Load the child rows of a batch of cv rows and build the snapshots, in order
+     */
+    private List<CVSnapshot> hydrate(List<Hydrating> rows) throws SQLException {
+        loadRelatedData(rows);
+        List<CVSnapshot> cvs = new ArrayList<>(rows.size());
+        for (Hydrating row : rows) {
+            cvs.add(row.toSnapshot());
+        }
+        return cvs;
+    }
+
+    /**
+     * Load child rows for a batch of CVs with one query per child table per chunk
+     * of ids, instead of four queries per CV
+     */
+    private void loadRelatedData(List<Hydrating> cvs) throws SQLException {
+        for (int from = 0; from < cvs.size(); from += BULK_LOAD_CHUNK_SIZE) {
+            List<Hydrating> chunk = cvs.subList(from, Math.min(from + BULK_LOAD_CHUNK_SIZE, cvs.size()));
+            Map<Long, Hydrating> cvsById = new HashMap<>();
+            Object[] ids = new Object[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                Hydrating cv = chunk.get(i);
+                cvsById.put(cv.row.id(), cv);
+                ids[i] = cv.row.id();
+            }
+            String inClause = "cv_id IN (" + String.join(", ", Collections.nCopies(ids.length, "?")) + ")";
+
+            loadEducations(cvsById, inClause, ids);
+            loadExperiences(cvsById, inClause, ids);
+            loadProjects(cvsById, inClause, ids);
+            loadSkills(cvsById, inClause, ids);
+        }
+    }
+
+    private void loadEducations(Map<Long, Hydrating> cvsById, String inClause, Object[] ids) throws SQLException {
+        String query = "SELECT * FROM education WHERE " + inClause + " ORDER BY cv_id, id";
+        ResultSet rs = dbManager.executeQuery(query, ids);
         try {
             while (rs.next()) {
-                CV.Education edu = new CV.Education(
+                CVSnapshot.Education edu = new CVSnapshot.Education(
+                    rs.getLong("id"),
                     rs.getString("institution"),
                     rs.getString("degree"),
                     rs.getString("field_of_study"),
                     rs.getString("graduation_year")
                 );
-                cv.getEducations().add(edu);
+                cvsById.get(rs.getLong("cv_id")).educations.add(edu);
             }
         } finally {
             dbManager.releaseReadLock();
         }
     }
 
-    private void loadExperiences(CV cv) throws SQLException {
-        String query = "SELECT * FROM experience WHERE cv_id = ?";
-        ResultSet rs = dbManager.executeQuery(query, cv.getId());
+    private void loadExperiences(Map<Long, Hydrating> cvsById, String inClause, Object[] ids) throws SQLException {
+        String query = "SELECT * FROM experience WHERE " + inClause + " ORDER BY cv_id, id";
+        ResultSet rs = dbManager.executeQuery(query, ids);
         try {
             while (rs.next()) {
-                CV.Experience exp = new CV.Experience(
+                CVSnapshot.Experience exp = new CVSnapshot.Experience(
+                    rs.getLong("id"),
                     rs.getString("company"),
                     rs.getString("position"),
                     rs.getString("start_date"),
                     rs.getString("end_date"),
                     rs.getString("description")
                 );
-                cv.getExperiences().add(exp);
+                cvsById.get(rs.getLong("cv_id")).experiences.add(exp);
             }
         } finally {
             dbManager.releaseReadLock();
         }
     }
 
-    private void loadProjects(CV cv) throws SQLException {
-        String query = "SELECT * FROM project WHERE cv_id = ?";
-        ResultSet rs = dbManager.executeQuery(query, cv.getId());
+    private void loadProjects(Map<Long, Hydrating> cvsById, String inClause, Object[] ids) throws SQLException {
+        String query = "SELECT * FROM project WHERE " + inClause + " ORDER BY cv_id, id";
+        ResultSet rs = dbManager.executeQuery(query, ids);
         try {
             while (rs.next()) {
-                CV.Project proj = new CV.Project(
+                CVSnapshot.Project proj = new CVSnapshot.Project(
+                    rs.getLong("id"),
                     rs.getString("title"),
                     rs.getString("description"),
                     rs.getString("technologies")
                 );
-                cv.getProjects().add(proj);
+                cvsById.get(rs.getLong("cv_id")).projects.add(proj);
             }
         } finally {
             dbManager.releaseReadLock();
         }
     }
 
-    private void loadSkills(CV cv) throws SQLException {
-        String query = "SELECT * FROM skill WHERE cv_id = ?";
-        ResultSet rs = dbManager.executeQuery(query, cv.getId());
+    private void loadSkills(Map<Long, Hydrating> cvsById, String inClause, Object[] ids) throws SQLException {
+        String query = "SELECT * FROM skill WHERE " + inClause + " ORDER BY cv_id, id";
+        ResultSet rs = dbManager.executeQuery(query, ids);
         try {
             while (rs.next()) {
-                cv.getSkills().add(rs.getString("skill_name"));
+                cvsById.get(rs.getLong("cv_id")).skills.add(rs.getString("skill_name"));
             }
         } finally {
             dbManager.releaseReadLock();
         }
     }
 
-    private int findCVIndex(long cvId) {
-        for (int i = 0; i < cvObservableList.size(); i++) {
-            if (cvObservableList.get(i).getId() == cvId) {
-                return i;
-            }
-        }
-        return -1;
+    /**
+     * Size and hit/miss/eviction counters of the hydrated CV cache
+     */
+    public CVCache.CacheStats getCacheStats() {
+        return cvCache.getStats();
+    }
+
+    /**
+     * Drop every cached CV, e.g. after rows were changed outside the repository
+     */
+    public void clearCache() {
+        cvCache.clear();
     }
 
     /**
      * Shutdown executor service
      */
     public void shutdown() {
+        WriteBehindQueue queue = writeBehind;
+        if (queue != null) {
+            queue.shutdown();
+        }
         executorService.shutdown();
         try {
             if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -451,4 +1062,28 @@ public class CVRepository {
             Thread.currentThread().interrupt();
         }
     }
+
+    /**
+     * A cv row whose child rows are being loaded; becomes a snapshot once complete
+     */
+    private static final class Hydrating {
+        private final CVSnapshot row;
+        private final List<CVSnapshot.Education> educations = new ArrayList<>();
+        private final List<CVSnapshot.Experience> experiences = new ArrayList<>();
+        private final List<CVSnapshot.Project> projects = new ArrayList<>();
+        private final List<String> skills = new ArrayList<>();
+
+        Hydrating(CVSnapshot row) {
+            this.row = row;
+        }
+
+        CVSnapshot toSnapshot() {
+            return new CVSnapshot(row.id(), row.fullName(), row.email(), row.phoneNumber(), row.address(),
+                row.profilePhoto(), row.createdAt(), row.updatedAt(),
+                educations.toArray(new CVSnapshot.Education[0]),
+                experiences.toArray(new CVSnapshot.Experience[0]),
+                projects.toArray(new CVSnapshot.Project[0]),
+                skills.toArray(new String[0]));
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import org.sqlite.SQLiteJDBCLoader;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Opens the database on a background thread at startup, while the JavaFX
+ * toolkit starts and the home screen is built. It loads the SQLite driver
+ * (which extracts and loads its native library), applies the schema, creates
+ * the repository and reads the first page of the CV list, so the first screen
+ * that needs data finds all of it ready instead of doing it on the FX thread.
+ */
+public final class DatabaseBootstrap {
+    private static CompletableFuture<BootstrapReport> bootstrap;
+
+    private DatabaseBootstrap() {
+    }
+
+    /**
+     * Start the bootstrap, or return the one already started
+     */
+    public static synchronized CompletableFuture<BootstrapReport> start() {
+        if (bootstrap == null) {
+            ExecutorService thread = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "CV-DB-Bootstrap");
+                t.setDaemon(true);
+                return t;
+            });
+            bootstrap = CompletableFuture.supplyAsync(DatabaseBootstrap::run, thread);
+            thread.shutdown();
+        }
+        return bootstrap;
+    }
+
+    private static BootstrapReport run() {
+        long start = System.nanoTime();
+        try {
+            SQLiteJDBCLoader.initialize();
+        } catch (Exception e) {
+            throw new CompletionException("Failed to load the SQLite driver", e);
+        }
+        long driverLoaded = System.nanoTime();
+
+        DatabaseManager.getInstance();
+        long schemaReady = System.nanoTime();
+
+        CVRepository repository = CVRepository.getInstance();
+        int rows;
+        try {
+            rows = repository.prefetchFirstPage();
+        } catch (SQLException e) {
+            throw new CompletionException("Failed to load the first page of CVs", e);
+        }
+        long pageLoaded = System.nanoTime();
+
+        return new BootstrapReport(driverLoaded - start, schemaReady - driverLoaded, pageLoaded - schemaReady, rows);
+    }
+
+    /**
+     * Time spent in each bootstrap stage
+     */
+    public record BootstrapReport(long driverNanos, long schemaNanos, long firstPageNanos, int firstPageRows) {
+
+        public double totalMillis() {
+            return (driverNanos + schemaNanos + firstPageNanos) / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("database ready in %.0f ms (driver %.0f ms, connect and schema %.0f ms, first page of %d CVs %.0f ms)",
+                totalMillis(), driverNanos / 1e6, schemaNanos / 1e6, firstPageRows, firstPageNanos / 1e6);
+        }
+    }
+}
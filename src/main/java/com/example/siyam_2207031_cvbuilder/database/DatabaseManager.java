@@ -1,17 +1,39 @@
 package com.example.siyam_2207031_cvbuilder.database;
 
 import java.sql.*;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Database Manager class for handling SQLite database operations
  * Implements connection pooling and thread-safe database access
+ *
+ * In pooled mode (the default) the database runs in WAL journal mode with one
+ * dedicated writer connection and a pool of read-only reader connections, so
+ * queries run concurrently with each other and with writes. Setting
+ * cvbuilder.db.pool.readers to 0 falls back to a single shared connection
+ * guarded by the read/write lock.
  */
 public class DatabaseManager {
-    private static final String DB_URL = "jdbc:sqlite:cvbuilder.db";
+    // Overridable so benchmarks and tools can point at a scratch database
+    private static final String DB_URL = System.getProperty("cvbuilder.db.url", "jdbc:sqlite:cvbuilder.db");
+    private static final int READER_POOL_SIZE = Integer.getInteger("cvbuilder.db.pool.readers",
+        Runtime.getRuntime().availableProcessors());
+    private static final int STATEMENT_CACHE_SIZE = Integer.getInteger("cvbuilder.db.statementCacheSize", 64);
     private static DatabaseManager instance;
     private Connection connection;
+    private StatementCache writerStatements;
+    private ReaderConnectionPool readerPool;
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong queryCount = new AtomicLong();
+    // Bumped when a write starts and when it commits; see getWriteCount
+    private final AtomicLong writeCount = new AtomicLong();
+    private final StatementCache.Stats statementStats = new StatementCache.Stats();
+    // Outstanding executeQuery calls on this thread, released in LIFO order by releaseReadLock
+    private final ThreadLocal<Deque<ReadLease>> readLeases = ThreadLocal.withInitial(ArrayDeque::new);
 
     private DatabaseManager() {
         initializeDatabase();
@@ -28,12 +50,17 @@ public class DatabaseManager {
     }
 
     /**
-     * Initialize database and create tables if they don't exist
+     * Initialize database and apply pending schema migrations
      */
     private void initializeDatabase() {
         try {
             connection = DriverManager.getConnection(DB_URL);
-            createTables();
+            writerStatements = new StatementCache(connection, STATEMENT_CACHE_SIZE, statementStats);
+            migrateSchema();
+            if (READER_POOL_SIZE > 0) {
+                enableWriteAheadLog();
+                readerPool = new ReaderConnectionPool(DB_URL, READER_POOL_SIZE, STATEMENT_CACHE_SIZE, statementStats);
+            }
             System.out.println("Database initialized successfully");
         } catch (SQLException e) {
             System.err.println("Failed to initialize database: " + e.getMessage());
@@ -42,86 +69,59 @@ public class DatabaseManager {
     }
 
     /**
-     * Create all necessary tables
+     * Bring the schema up to date. Migrations are tracked in PRAGMA user_version,
+     * so on an up-to-date database this is a single pragma read.
      */
-    private void createTables() throws SQLException {
-        String createCVTable = """
-            CREATE TABLE IF NOT EXISTS cv (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                full_name TEXT NOT NULL,
-                email TEXT NOT NULL,
-                phone_number TEXT NOT NULL,
-                address TEXT NOT NULL,
-                profile_photo TEXT,
-                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-            )
-        """;
-
-        String createEducationTable = """
-            CREATE TABLE IF NOT EXISTS education (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                cv_id INTEGER NOT NULL,
-                institution TEXT NOT NULL,
-                degree TEXT NOT NULL,
-                field_of_study TEXT NOT NULL,
-                graduation_year TEXT NOT NULL,
-                FOREIGN KEY (cv_id) REFERENCES cv(id) ON DELETE CASCADE
-            )
-        """;
-
-        String createExperienceTable = """
-            CREATE TABLE IF NOT EXISTS experience (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                cv_id INTEGER NOT NULL,
-                company TEXT NOT NULL,
-                position TEXT NOT NULL,
-                start_date TEXT NOT NULL,
-                end_date TEXT NOT NULL,
-                description TEXT NOT NULL,
-                FOREIGN KEY (cv_id) REFERENCES cv(id) ON DELETE CASCADE
-            )
-        """;
-
-        String createProjectTable = """
-            CREATE TABLE IF NOT EXISTS project (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                cv_id INTEGER NOT NULL,
-                title TEXT NOT NULL,
-                description TEXT NOT NULL,
-                technologies TEXT NOT NULL,
-                FOREIGN KEY (cv_id) REFERENCES cv(id) ON DELETE CASCADE
-            )
-        """;
-
-        String createSkillTable = """
-            CREATE TABLE IF NOT EXISTS skill (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                cv_id INTEGER NOT NULL,
-                skill_name TEXT NOT NULL,
-                FOREIGN KEY (cv_id) REFERENCES cv(id) ON DELETE CASCADE
-            )
-        """;
-
+    private void migrateSchema() throws SQLException {
         lock.writeLock().lock();
         try (Statement stmt = connection.createStatement()) {
-            stmt.execute(createCVTable);
-            stmt.execute(createEducationTable);
-            stmt.execute(createExperienceTable);
-            stmt.execute(createProjectTable);
-            stmt.execute(createSkillTable);
+            // Needed for the ON DELETE CASCADE clauses on the child tables
+            stmt.execute("PRAGMA foreign_keys = ON");
+            SchemaMigrator.migrate(connection);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Switch the database file to WAL so readers see a consistent snapshot
+     * without blocking the writer. The journal mode is persistent in the file.
+     */
+    private void enableWriteAheadLog() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA journal_mode=WAL");
+            stmt.execute("PRAGMA synchronous=NORMAL");
+        }
+    }
+
+    /**
+     * Choose whether every commit is synced to disk. WAL mode runs with
+     * synchronous=NORMAL, where the last commits can be lost on power failure;
+     * FULL syncs the WAL on each commit, which is affordable when commits are grouped.
+     */
+    public void setDurableCommits(boolean durable) throws SQLException {
+        lock.writeLock().lock();
+        try (Statement stmt = getConnection().createStatement()) {
+            stmt.execute(durable || readerPool == null ? "PRAGMA synchronous=FULL" : "PRAGMA synchronous=NORMAL");
         } finally {
             lock.writeLock().unlock();
         }
     }
 
     /**
-     * Get database connection
+     * Get database connection (the writer connection in pooled mode)
      */
     public Connection getConnection() {
         try {
             if (connection == null || connection.isClosed()) {
+                if (writerStatements != null) {
+                    writerStatements.close();
+                }
                 connection = DriverManager.getConnection(DB_URL);
+                writerStatements = new StatementCache(connection, STATEMENT_CACHE_SIZE, statementStats);
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.execute("PRAGMA foreign_keys = ON");
+                }
             }
         } catch (SQLException e) {
             System.err.println("Failed to get connection: " + e.getMessage());
@@ -130,30 +130,101 @@ public class DatabaseManager {
     }
 
     /**
-     * Execute a query with read lock
+     * Execute a query on a reader connection (or under the read lock when not pooled).
+     * Every call must be paired with releaseReadLock once the ResultSet is consumed.
      */
     public ResultSet executeQuery(String query, Object... params) throws SQLException {
-        lock.readLock().lock();
+        return executeQuery(null, query, params);
+    }
+
+    /**
+     * executeQuery that the canceller can stop while it runs; see QueryCanceller
+     */
+    public ResultSet executeQuery(QueryCanceller canceller, String query, Object... params) throws SQLException {
+        ReadLease lease = acquireReadLease();
+        queryCount.incrementAndGet();
         try {
-            PreparedStatement pstmt = getConnection().prepareStatement(query);
-            setParameters(pstmt, params);
-            return pstmt.executeQuery();
+            lease.sql = query;
+            lease.statement = lease.statements.borrow(query, false);
+            setParameters(lease.statement, params);
+            if (canceller != null) {
+                if (lease.reader != null) {
+                    canceller.attach(lease.statement);
+                    lease.canceller = canceller;
+                } else if (canceller.isCancelled()) {
+                    throw new SQLException("Query cancelled");
+                }
+            }
+            lease.resultSet = lease.statement.executeQuery();
+            return lease.resultSet;
         } catch (SQLException e) {
-            lock.readLock().unlock();
+            releaseReadLock();
             throw e;
         }
     }
 
+    /**
+     * Start a read spanning several queries, e.g. a cv row and its child rows.
+     * Queries on this thread until the matching releaseReadLock share one reader
+     * connection inside one read transaction, so they all see the same committed
+     * state. Under the read lock, or nested in an outer read, nothing more is needed.
+     */
+    public void beginRead() throws SQLException {
+        ReadLease lease = acquireReadLease();
+        if (lease.reader != null) {
+            try {
+                lease.reader.getConnection().setAutoCommit(false);
+                lease.readTransaction = true;
+            } catch (SQLException e) {
+                releaseReadLock();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Pick the connection for a read. A thread inside a write transaction reads
+     * through the writer so it sees its own uncommitted rows; nested reads on one
+     * thread share the reader they already hold.
+     */
+    private ReadLease acquireReadLease() throws SQLException {
+        Deque<ReadLease> leases = readLeases.get();
+        ReadLease lease;
+        if (readerPool == null || lock.isWriteLockedByCurrentThread()) {
+            lock.readLock().lock();
+            getConnection();
+            lease = new ReadLease(writerStatements, null, true);
+        } else {
+            ReadLease outer = null;
+            for (ReadLease held : leases) {
+                if (held.reader != null) {
+                    outer = held;
+                    break;
+                }
+            }
+            ReaderConnectionPool.PooledReader reader = outer != null ? null : readerPool.checkout();
+            lease = new ReadLease(outer != null ? outer.statements : reader.getStatements(), reader, false);
+        }
+        leases.push(lease);
+        return lease;
+    }
+
     /**
      * Execute an update with write lock
      */
     public int executeUpdate(String query, Object... params) throws SQLException {
         lock.writeLock().lock();
+        PreparedStatement pstmt = null;
         try {
-            PreparedStatement pstmt = getConnection().prepareStatement(query);
+            getConnection();
+            pstmt = writerStatements.borrow(query, false);
             setParameters(pstmt, params);
             return pstmt.executeUpdate();
         } finally {
+            if (pstmt != null) {
+                writerStatements.giveBack(query, false, pstmt);
+            }
+            writeCount.incrementAndGet();
             lock.writeLock().unlock();
         }
     }
@@ -163,26 +234,83 @@ public class DatabaseManager {
      */
     public long executeInsert(String query, Object... params) throws SQLException {
         lock.writeLock().lock();
+        PreparedStatement pstmt = null;
         try {
-            PreparedStatement pstmt = getConnection().prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
+            getConnection();
+            pstmt = writerStatements.borrow(query, true);
             setParameters(pstmt, params);
             pstmt.executeUpdate();
-            
-            ResultSet rs = pstmt.getGeneratedKeys();
-            if (rs.next()) {
-                return rs.getLong(1);
+
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
             }
             throw new SQLException("Failed to retrieve generated key");
         } finally {
+            if (pstmt != null) {
+                writerStatements.giveBack(query, true, pstmt);
+            }
+            writeCount.incrementAndGet();
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Execute one statement for many parameter rows with JDBC batching,
+     * flushing every batchSize rows. Returns the total number of rows affected.
+     */
+    public int executeBatch(String query, List<Object[]> rows, int batchSize) throws SQLException {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        lock.writeLock().lock();
+        PreparedStatement pstmt = null;
+        try {
+            getConnection();
+            pstmt = writerStatements.borrow(query, false);
+            int affected = 0;
+            int pending = 0;
+            for (Object[] params : rows) {
+                setParameters(pstmt, params);
+                pstmt.addBatch();
+                if (++pending == batchSize) {
+                    affected += sum(pstmt.executeBatch());
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                affected += sum(pstmt.executeBatch());
+            }
+            return affected;
+        } finally {
+            if (pstmt != null) {
+                try {
+                    pstmt.clearBatch();
+                } catch (SQLException e) {
+                    System.err.println("Failed to clear batch: " + e.getMessage());
+                }
+                writerStatements.giveBack(query, false, pstmt);
+            }
+            writeCount.incrementAndGet();
             lock.writeLock().unlock();
         }
     }
 
+    private static int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
     /**
      * Begin transaction
      */
     public void beginTransaction() throws SQLException {
         lock.writeLock().lock();
+        writeCount.incrementAndGet();
         try {
             getConnection().setAutoCommit(false);
         } catch (SQLException e) {
@@ -199,6 +327,7 @@ public class DatabaseManager {
             getConnection().commit();
             getConnection().setAutoCommit(true);
         } finally {
+            writeCount.incrementAndGet();
             lock.writeLock().unlock();
         }
     }
@@ -218,10 +347,100 @@ public class DatabaseManager {
     }
 
     /**
-     * Release read lock
+     * Release the most recent read taken by executeQuery or beginRead on this
+     * thread, closing its ResultSet, returning its statement to the cache and its
+     * reader connection to the pool
      */
     public void releaseReadLock() {
-        lock.readLock().unlock();
+        ReadLease lease = readLeases.get().poll();
+        if (lease == null) {
+            throw new IllegalStateException("releaseReadLock called without a matching executeQuery");
+        }
+        if (lease.canceller != null) {
+            lease.canceller.detach();
+        }
+        if (lease.statement != null) {
+            try {
+                if (lease.resultSet != null) {
+                    lease.resultSet.close();
+                }
+                lease.statements.giveBack(lease.sql, false, lease.statement);
+            } catch (SQLException e) {
+                System.err.println("Failed to close result set: " + e.getMessage());
+                StatementCache.closeQuietly(lease.statement);
+            }
+        }
+        if (lease.readTransaction) {
+            Connection connection = lease.reader.getConnection();
+            try {
+                connection.commit();
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                System.err.println("Failed to end read transaction: " + e.getMessage());
+            }
+        }
+        if (lease.reader != null) {
+            readerPool.release(lease.reader);
+        } else if (lease.holdsReadLock) {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether reads are served by the reader connection pool
+     */
+    public boolean isPooled() {
+        return readerPool != null;
+    }
+
+    /**
+     * Number of reader connections, or 0 when running on a single connection
+     */
+    public int getReaderPoolSize() {
+        return readerPool != null ? readerPool.getSize() : 0;
+    }
+
+    /**
+     * Snapshot of reader pool metrics, or null when not pooled
+     */
+    public PoolMetrics getPoolMetrics() {
+        return readerPool != null ? readerPool.getMetrics() : null;
+    }
+
+    /**
+     * Changes whenever a write starts or commits, so a reader can tell whether
+     * rows it read earlier may have changed since
+     */
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    /**
+     * Number of SELECT round trips issued through executeQuery since startup
+     */
+    public long getQueryCount() {
+        return queryCount.get();
+    }
+
+    /**
+     * Prepared statement cache hits across all connections
+     */
+    public long getStatementCacheHits() {
+        return statementStats.hits.get();
+    }
+
+    /**
+     * Prepared statement cache misses (statements compiled) across all connections
+     */
+    public long getStatementCacheMisses() {
+        return statementStats.misses.get();
+    }
+
+    /**
+     * Statements closed because their connection's cache was full
+     */
+    public long getStatementCacheEvictions() {
+        return statementStats.evictions.get();
     }
 
     /**
@@ -254,6 +473,12 @@ public class DatabaseManager {
      * Close database connection
      */
     public void closeConnection() {
+        if (readerPool != null) {
+            readerPool.close();
+        }
+        if (writerStatements != null) {
+            writerStatements.close();
+        }
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
@@ -263,4 +488,85 @@ public class DatabaseManager {
             System.err.println("Failed to close database connection: " + e.getMessage());
         }
     }
+
+    /**
+     * One outstanding executeQuery: the statement cache of the connection it ran
+     * on, the borrowed statement and its ResultSet, and the pooled reader to
+     * return (null when using the read lock or nesting inside an outer lease)
+     */
+    private static class ReadLease {
+        private final StatementCache statements;
+        private final ReaderConnectionPool.PooledReader reader;
+        private final boolean holdsReadLock;
+        private String sql;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+        // Set by beginRead: the reader's read transaction ends with this lease
+        private boolean readTransaction;
+        private QueryCanceller canceller;
+
+        ReadLease(StatementCache statements, ReaderConnectionPool.PooledReader reader, boolean holdsReadLock) {
+            this.statements = statements;
+            this.reader = reader;
+            this.holdsReadLock = holdsReadLock;
+        }
+    }
+
+    /**
+     * Point-in-time reader pool statistics
+     */
+    public static class PoolMetrics {
+        private final int poolSize;
+        private final int idle;
+        private final int inUse;
+        private final long checkouts;
+        private final long totalWaitMillis;
+        private final long replacedConnections;
+
+        public PoolMetrics(int poolSize, int idle, int inUse, long checkouts,
+                           long totalWaitMillis, long replacedConnections) {
+            this.poolSize = poolSize;
+            this.idle = idle;
+            this.inUse = inUse;
+            this.checkouts = checkouts;
+            this.totalWaitMillis = totalWaitMillis;
+            this.replacedConnections = replacedConnections;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getInUse() {
+            return inUse;
+        }
+
+        public long getCheckouts() {
+            return checkouts;
+        }
+
+        public long getTotalWaitMillis() {
+            return totalWaitMillis;
+        }
+
+        public long getReplacedConnections() {
+            return replacedConnections;
+        }
+
+        @Override
+        public String toString() {
+            return "PoolMetrics{" +
+                    "poolSize=" + poolSize +
+                    ", idle=" + idle +
+                    ", inUse=" + inUse +
+                    ", checkouts=" + checkouts +
+                    ", totalWaitMillis=" + totalWaitMillis +
+                    ", replacedConnections=" + replacedConnections +
+                    '}';
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Handle for stopping a read query from another thread, e.g. a search the user
+ * has already typed past
+ *
+ * While the query runs on a pooled reader, cancel interrupts SQLite itself, so
+ * the statement stops stepping and the reader goes back to the pool at once.
+ * A query that has not started yet fails as soon as it is issued. Reads under
+ * the shared read lock are not interrupted, as other threads may be using the
+ * same connection; they run to completion and only their result is dropped.
+ */
+public final class QueryCanceller {
+    private Statement running;
+    private boolean cancelled;
+
+    public synchronized void cancel() {
+        cancelled = true;
+        if (running != null) {
+            try {
+                running.cancel();
+            } catch (SQLException e) {
+                System.err.println("Failed to cancel query: " + e.getMessage());
+            }
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Called by DatabaseManager before a query runs on a connection of its own
+     */
+    synchronized void attach(Statement statement) throws SQLException {
+        if (cancelled) {
+            throw new SQLException("Query cancelled");
+        }
+        running = statement;
+    }
+
+    /**
+     * Called by DatabaseManager before the connection is handed back, so a late
+     * cancel cannot interrupt its next user
+     */
+    synchronized void detach() {
+        running = null;
+    }
+}
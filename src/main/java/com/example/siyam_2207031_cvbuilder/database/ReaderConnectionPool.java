@@ -0,0 +1,172 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import org.sqlite.SQLiteConfig;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-size pool of read-only SQLite connections
+ * Relies on WAL journal mode so readers never block behind the single writer connection
+ */
+class ReaderConnectionPool {
+    // Connections idle longer than this are validated before being handed out
+    private static final long IDLE_VALIDATION_MILLIS = 30_000;
+    private static final long CHECKOUT_TIMEOUT_SECONDS = 30;
+
+    private final String url;
+    private final int size;
+    private final int statementCacheSize;
+    private final StatementCache.Stats statementStats;
+    private final BlockingQueue<PooledReader> idleReaders;
+    private final List<PooledReader> allReaders = new ArrayList<>();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicLong checkouts = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong replacedConnections = new AtomicLong();
+    private volatile boolean closed;
+
+    ReaderConnectionPool(String url, int size, int statementCacheSize,
+                         StatementCache.Stats statementStats) throws SQLException {
+        this.url = url;
+        this.size = size;
+        this.statementCacheSize = statementCacheSize;
+        this.statementStats = statementStats;
+        this.idleReaders = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            PooledReader reader = newReader();
+            synchronized (allReaders) {
+                allReaders.add(reader);
+            }
+            idleReaders.add(reader);
+        }
+    }
+
+    /**
+     * Check out a reader, waiting for one to be returned if all are busy
+     */
+    PooledReader checkout() throws SQLException {
+        if (closed) {
+            throw new SQLException("Reader pool is closed");
+        }
+        long start = System.nanoTime();
+        PooledReader reader;
+        try {
+            reader = idleReaders.poll(CHECKOUT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a reader connection", e);
+        }
+        waitNanos.addAndGet(System.nanoTime() - start);
+        if (reader == null) {
+            throw new SQLException("Timed out waiting for a reader connection");
+        }
+
+        try {
+            validate(reader);
+        } catch (SQLException e) {
+            idleReaders.add(reader);
+            throw e;
+        }
+        checkouts.incrementAndGet();
+        inUse.incrementAndGet();
+        return reader;
+    }
+
+    /**
+     * Return a reader to the pool
+     */
+    void release(PooledReader reader) {
+        reader.lastReturnedAt = System.currentTimeMillis();
+        inUse.decrementAndGet();
+        if (closed) {
+            reader.close();
+        } else {
+            idleReaders.add(reader);
+        }
+    }
+
+    private void validate(PooledReader reader) throws SQLException {
+        if (System.currentTimeMillis() - reader.lastReturnedAt < IDLE_VALIDATION_MILLIS) {
+            return;
+        }
+        boolean valid;
+        try {
+            valid = !reader.connection.isClosed() && reader.connection.isValid(2);
+        } catch (SQLException e) {
+            valid = false;
+        }
+        if (!valid) {
+            reader.close();
+            PooledReader replacement = newReader();
+            reader.connection = replacement.connection;
+            reader.statements = replacement.statements;
+            replacedConnections.incrementAndGet();
+        }
+    }
+
+    private PooledReader newReader() throws SQLException {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setReadOnly(true);
+        config.setBusyTimeout(5000);
+        Connection connection = config.createConnection(url);
+        return new PooledReader(connection, new StatementCache(connection, statementCacheSize, statementStats));
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    DatabaseManager.PoolMetrics getMetrics() {
+        return new DatabaseManager.PoolMetrics(size, idleReaders.size(), inUse.get(),
+            checkouts.get(), waitNanos.get() / 1_000_000, replacedConnections.get());
+    }
+
+    void close() {
+        closed = true;
+        synchronized (allReaders) {
+            for (PooledReader reader : allReaders) {
+                reader.close();
+            }
+        }
+        idleReaders.clear();
+    }
+
+    /**
+     * A reader connection, its statement cache and the bookkeeping needed for idle validation
+     */
+    static class PooledReader {
+        private Connection connection;
+        private StatementCache statements;
+        private long lastReturnedAt = System.currentTimeMillis();
+
+        PooledReader(Connection connection, StatementCache statements) {
+            this.connection = connection;
+            this.statements = statements;
+        }
+
+        Connection getConnection() {
+            return connection;
+        }
+
+        StatementCache getStatements() {
+            return statements;
+        }
+
+        void close() {
+            statements.close();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                System.err.println("Failed to close reader connection: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for CVRepository's async operations
+ *
+ * FIXED is a pool of daemon platform threads. VIRTUAL starts one virtual thread
+ * per task, so tasks blocked in JDBC no longer hold up the ones queued behind them,
+ * but only as many run at once as there are connections to run them on: SQLite
+ * calls are native and pin their carrier thread, so more would just wait on the
+ * reader pool. The build targets Java 17, so virtual threads are looked up
+ * reflectively and are only available when running on Java 21 or later.
+ */
+public final class RepositoryExecutors {
+
+    public enum Mode { FIXED, VIRTUAL }
+
+    private RepositoryExecutors() {
+    }
+
+    /**
+     * Executor for the mode named by cvbuilder.repository.executor (fixed or virtual),
+     * falling back to FIXED when virtual threads are not available
+     */
+    static ExecutorService fromSystemProperty(DatabaseManager dbManager) {
+        String mode = System.getProperty("cvbuilder.repository.executor", "fixed");
+        if (mode.equalsIgnoreCase("virtual")) {
+            if (isVirtualThreadSupported()) {
+                return create(Mode.VIRTUAL, dbManager);
+            }
+            System.err.println("Virtual threads need Java 21 or later; using a fixed thread pool");
+        }
+        return create(Mode.FIXED, dbManager);
+    }
+
+    /**
+     * Executor of the given mode sized for this database's connections:
+     * one thread or task per reader connection plus one for the writer
+     */
+    public static ExecutorService create(Mode mode, DatabaseManager dbManager) {
+        int connections = dbManager.getReaderPoolSize() + 1;
+        return mode == Mode.VIRTUAL ? newVirtual(connections) : newFixed(Math.max(5, connections));
+    }
+
+    /**
+     * Fixed pool of daemon threads named CV-Repository-1, CV-Repository-2, ...
+     */
+    public static ExecutorService newFixed(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("CV-Repository-" + counter.incrementAndGet());
+            return thread;
+        });
+    }
+
+    /**
+     * Virtual thread per task, named CV-Repository-virtual-0, -1, ..., with at
+     * most maxConcurrent tasks running at once
+     *
+     * @throws UnsupportedOperationException when virtual threads are not available
+     */
+    public static ExecutorService newVirtual(int maxConcurrent) {
+        return new GatedExecutor(newVirtualThreadPerTaskExecutor("CV-Repository-virtual-"), maxConcurrent);
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        try {
+            newVirtualThreadPerTaskExecutor("probe-").shutdown();
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory()),
+     * called reflectively so the code still compiles for Java 17
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            ThreadFactory threadFactory = (ThreadFactory) factory.invoke(builder);
+            return (ExecutorService) Executors.class
+                .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, threadFactory);
+        } catch (NoSuchMethodException | ClassNotFoundException | IllegalAccessException e) {
+            throw new UnsupportedOperationException("Virtual threads are not available on Java "
+                + Runtime.version().feature(), e);
+        } catch (InvocationTargetException e) {
+            // Java 19/20 without --enable-preview
+            throw new UnsupportedOperationException("Virtual threads are not enabled", e.getCause());
+        }
+    }
+
+    /**
+     * Runs every task on the delegate, but lets at most maxConcurrent of them
+     * past the gate at a time. Waiting virtual threads cost next to nothing.
+     */
+    private static class GatedExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        GatedExecutor(ExecutorService delegate, int maxConcurrent) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(Math.max(1, maxConcurrent), true);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Versioned schema migrations tracked in SQLite's PRAGMA user_version
+ * Each migration runs once, in its own transaction, and bumps the version on success
+ */
+class SchemaMigrator {
+
+    /**
+     * Ordered list of migrations. Never edit a released migration; append a new one.
+     */
+    private static final List<Migration> MIGRATIONS = List.of(
+        new Migration(1, "Create core tables",
+            """
+            CREATE TABLE IF NOT EXISTS cv (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                full_name TEXT NOT NULL,
+                email TEXT NOT NULL,
+                phone_number TEXT NOT NULL,
+                address TEXT NOT NULL,
+                profile_photo TEXT,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+            """,
+            """
+            CREATE TABLE IF NOT EXISTS education (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                cv_id INTEGER NOT NULL,
+                institution TEXT NOT NULL,
+                degree TEXT NOT NULL,
+                field_of_study TEXT NOT NULL,
+                graduation_year TEXT NOT NULL,
+                FOREIGN KEY (cv_id) REFERENCES cv(id) ON DELETE CASCADE
+            )
+            """,
+            """
+            CREATE TABLE IF NOT EXISTS experience (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                cv_id INTEGER NOT NULL,
+                company TEXT NOT NULL,
+                position TEXT NOT NULL,
+                start_date TEXT NOT NULL,
+                end_date TEXT NOT NULL,
+                description TEXT NOT NULL,
+                FOREIGN KEY (cv_id) REFERENCES cv(id) ON DELETE CASCADE
+            )
+            """,
+            """
+            CREATE TABLE IF NOT EXISTS project (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                cv_id INTEGER NOT NULL,
+                title TEXT NOT NULL,
+                description TEXT NOT NULL,
+                technologies TEXT NOT NULL,
+                FOREIGN KEY (cv_id) REFERENCES cv(id) ON DELETE CASCADE
+            )
+            """,
+            """
+            CREATE TABLE IF NOT EXISTS skill (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                cv_id INTEGER NOT NULL,
+                skill_name TEXT NOT NULL,
+                FOREIGN KEY (cv_id) REFERENCES cv(id) ON DELETE CASCADE
+            )
+            """),
+        new Migration(2, "Index child tables by cv_id and cv by created_at/full_name",
+            "CREATE INDEX IF NOT EXISTS idx_education_cv_id ON education(cv_id)",
+            "CREATE INDEX IF NOT EXISTS idx_experience_cv_id ON experience(cv_id)",
+            "CREATE INDEX IF NOT EXISTS idx_project_cv_id ON project(cv_id)",
+            "CREATE INDEX IF NOT EXISTS idx_skill_cv_id ON skill(cv_id)",
+            "CREATE INDEX IF NOT EXISTS idx_cv_created_at ON cv(created_at DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_cv_full_name ON cv(full_name COLLATE NOCASE)"),
+        new Migration(3, "Create and populate the cv_search full-text index",
+            SearchIndex.CREATE_TABLE,
+            SearchIndex.POPULATE)
+    );
+
+    private SchemaMigrator() {
+    }
+
+    /**
+     * Latest schema version known to this build
+     */
+    static int latestVersion() {
+        return MIGRATIONS.get(MIGRATIONS.size() - 1).version;
+    }
+
+    /**
+     * Apply every migration newer than the database's user_version
+     * Returns the number of migrations applied
+     */
+    static int migrate(Connection connection) throws SQLException {
+        int current = currentVersion(connection);
+        int applied = 0;
+        for (Migration migration : MIGRATIONS) {
+            if (migration.version <= current) {
+                continue;
+            }
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement stmt = connection.createStatement()) {
+                for (String sql : migration.statements) {
+                    stmt.execute(sql);
+                }
+                // PRAGMA does not accept bound parameters; the version is a trusted int
+                stmt.execute("PRAGMA user_version = " + migration.version);
+                connection.commit();
+                applied++;
+                System.out.println("Applied migration " + migration.version + ": " + migration.description);
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new SQLException("Migration " + migration.version + " failed: " + e.getMessage(), e);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        return applied;
+    }
+
+    static int currentVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * A numbered schema change made of one or more DDL statements
+     */
+    private static class Migration {
+        private final int version;
+        private final String description;
+        private final String[] statements;
+
+        Migration(int version, String description, String... statements) {
+            this.version = version;
+            this.description = description;
+            this.statements = statements;
+        }
+    }
+}
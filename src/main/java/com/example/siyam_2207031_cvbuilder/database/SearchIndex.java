@@ -0,0 +1,99 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Maintenance of the cv_search FTS5 table
+ * One contentless document per CV (rowid = cv.id) holding the personal details and
+ * the text of every section, kept in sync by CVRepository inside its write transactions
+ */
+final class SearchIndex {
+
+    static final String CREATE_TABLE = """
+        CREATE VIRTUAL TABLE IF NOT EXISTS cv_search USING fts5(
+            full_name, email, address, education, experience, projects, skills,
+            content = '', contentless_delete = 1,
+            prefix = '2 3', tokenize = 'unicode61 remove_diacritics 2'
+        )
+    """;
+
+    // Builds the search documents; appended with a WHERE clause to index a single CV
+    static final String POPULATE = """
+        INSERT INTO cv_search (rowid, full_name, email, address, education, experience, projects, skills)
+        SELECT cv.id, cv.full_name, cv.email, cv.address,
+            (SELECT group_concat(institution || ' ' || degree || ' ' || field_of_study, ' ')
+                FROM education WHERE cv_id = cv.id),
+            (SELECT group_concat(company || ' ' || position || ' ' || description, ' ')
+                FROM experience WHERE cv_id = cv.id),
+            (SELECT group_concat(title || ' ' || description || ' ' || technologies, ' ')
+                FROM project WHERE cv_id = cv.id),
+            (SELECT group_concat(skill_name, ' ') FROM skill WHERE cv_id = cv.id)
+        FROM cv
+    """;
+
+    private SearchIndex() {
+    }
+
+    /**
+     * Replace the search document of one CV with its current contents
+     */
+    static void index(DatabaseManager dbManager, long cvId) throws SQLException {
+        remove(dbManager, cvId);
+        dbManager.executeUpdate(POPULATE + " WHERE cv.id = ?", cvId);
+    }
+
+    /**
+     * Build the search documents of CVs that have none yet, chunkSize ids per statement
+     */
+    static void indexNew(DatabaseManager dbManager, List<Long> cvIds, int chunkSize) throws SQLException {
+        for (int from = 0; from < cvIds.size(); from += chunkSize) {
+            List<Long> chunk = cvIds.subList(from, Math.min(from + chunkSize, cvIds.size()));
+            dbManager.executeUpdate(POPULATE + " WHERE cv.id IN ("
+                + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")", chunk.toArray());
+        }
+    }
+
+    /**
+     * Drop the search document of one CV
+     */
+    static void remove(DatabaseManager dbManager, long cvId) throws SQLException {
+        dbManager.executeUpdate("DELETE FROM cv_search WHERE rowid = ?", cvId);
+    }
+
+    /**
+     * Rebuild every search document from the cv tables, in one transaction
+     */
+    static int rebuild(DatabaseManager dbManager) throws SQLException {
+        dbManager.beginTransaction();
+        try {
+            dbManager.executeUpdate("INSERT INTO cv_search (cv_search) VALUES ('delete-all')");
+            int indexed = dbManager.executeUpdate(POPULATE);
+            dbManager.commitTransaction();
+            return indexed;
+        } catch (SQLException e) {
+            dbManager.rollbackTransaction();
+            throw e;
+        }
+    }
+
+    /**
+     * Turn free text into an FTS5 query that cannot be a syntax error: every
+     * whitespace-separated word becomes a quoted string (inner quotes doubled)
+     * matched as a prefix, all of which must match. Empty for blank text.
+     */
+    static String plainQuery(String text) {
+        StringBuilder query = new StringBuilder();
+        for (String word : text.trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('"').append(word.replace("\"", "\"\"")).append("\"*");
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of prepared statements for a single connection, keyed by SQL text
+ * Statements are borrowed out of the cache while in use, so two threads sharing
+ * a connection never execute the same statement object at once
+ */
+class StatementCache {
+    private final Connection connection;
+    private final Stats stats;
+    private final Map<String, PreparedStatement> statements;
+
+    StatementCache(Connection connection, int capacity, Stats stats) {
+        this.connection = connection;
+        this.stats = stats;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > capacity) {
+                    closeQuietly(eldest.getValue());
+                    stats.evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Take a statement for this SQL out of the cache, preparing it on a miss
+     */
+    synchronized PreparedStatement borrow(String sql, boolean returnGeneratedKeys) throws SQLException {
+        PreparedStatement pstmt = statements.remove(key(sql, returnGeneratedKeys));
+        if (pstmt != null && !pstmt.isClosed()) {
+            stats.hits.incrementAndGet();
+            return pstmt;
+        }
+        stats.misses.incrementAndGet();
+        return returnGeneratedKeys
+            ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+            : connection.prepareStatement(sql);
+    }
+
+    /**
+     * Put a borrowed statement back with its parameters cleared. If another
+     * borrower already returned one for the same SQL, the spare is closed.
+     */
+    synchronized void giveBack(String sql, boolean returnGeneratedKeys, PreparedStatement pstmt) {
+        try {
+            pstmt.clearParameters();
+        } catch (SQLException e) {
+            closeQuietly(pstmt);
+            return;
+        }
+        PreparedStatement previous = statements.put(key(sql, returnGeneratedKeys), pstmt);
+        if (previous != null && previous != pstmt) {
+            closeQuietly(previous);
+        }
+    }
+
+    /**
+     * Close every cached statement
+     */
+    synchronized void close() {
+        for (PreparedStatement pstmt : statements.values()) {
+            closeQuietly(pstmt);
+        }
+        statements.clear();
+    }
+
+    private static String key(String sql, boolean returnGeneratedKeys) {
+        return returnGeneratedKeys ? "keys:" + sql : sql;
+    }
+
+    static void closeQuietly(Statement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            System.err.println("Failed to close statement: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Hit/miss/eviction counters shared by all caches of one DatabaseManager
+     */
+    static class Stats {
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        final AtomicLong evictions = new AtomicLong();
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind queue that turns many CV saves into a few group commits
+ *
+ * Saves and updates are queued as immutable snapshots. Updates of the same CV are
+ * merged (last write wins), and the queue is committed as one transaction when it reaches
+ * maxBatch CVs or maxDelay after the first queued write, whichever comes first.
+ * Writes that arrive while a group is committing join the next group.
+ * Callers' futures complete only after the group's commit returns. If a group
+ * fails, its writes are retried one transaction each so one bad CV does not fail
+ * the others.
+ */
+public class WriteBehindQueue {
+
+    /**
+     * Writes a group of CVs inside one transaction owned by the caller
+     */
+    interface GroupWriter {
+        void writeGroup(List<PendingWrite> writes) throws SQLException;
+    }
+
+    private final GroupWriter writer;
+    private final int maxBatch;
+    private final long maxDelayMillis;
+    private final ScheduledExecutorService flusher;
+    // Updates are keyed by CV id and merged; every insert gets a key of its own,
+    // so each save() call inserts its own row even when the content is identical
+    private final Map<Object, PendingWrite> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+    // Set by shutdown; later writes fail instead of reaching a stopped flusher
+    private boolean closed;
+
+    private final AtomicLong writesQueued = new AtomicLong();
+    private final AtomicLong writesMerged = new AtomicLong();
+    private final AtomicLong groupsCommitted = new AtomicLong();
+    private final AtomicLong cvsCommitted = new AtomicLong();
+    private final AtomicLong groupFallbacks = new AtomicLong();
+    private final AtomicLong maxGroupSize = new AtomicLong();
+
+    WriteBehindQueue(GroupWriter writer, int maxBatch, long maxDelayMillis) {
+        this.writer = writer;
+        this.maxBatch = maxBatch;
+        this.maxDelayMillis = maxDelayMillis;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("CV-WriteBehind-Thread");
+            return thread;
+        });
+    }
+
+    /**
+     * Queue an insert of a new CV. The future completes with its id once committed.
+     */
+    CompletableFuture<Long> save(CVSnapshot cv) {
+        return enqueue(cv, true);
+    }
+
+    /**
+     * Queue an update of a stored CV. The future completes once committed.
+     */
+    CompletableFuture<Long> update(CVSnapshot cv) {
+        return enqueue(cv, false);
+    }
+
+    private synchronized CompletableFuture<Long> enqueue(CVSnapshot cv, boolean insert) {
+        if (closed) {
+            return CompletableFuture.failedFuture(
+                new CompletionException("Failed to save CV", new SQLException("Write-behind queue is shut down")));
+        }
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        Object key = !insert && cv.id() != 0 ? (Object) cv.id() : new Object();
+        writesQueued.incrementAndGet();
+
+        PendingWrite existing = pending.get(key);
+        if (existing != null) {
+            existing.snapshot = cv;
+            existing.futures.add(future);
+            writesMerged.incrementAndGet();
+        } else {
+            PendingWrite write = new PendingWrite(cv, insert);
+            write.futures.add(future);
+            pending.put(key, write);
+        }
+
+        if (pending.size() >= maxBatch) {
+            cancelScheduledFlush();
+            flusher.execute(this::flush);
+        } else if (scheduledFlush == null) {
+            scheduledFlush = flusher.schedule(this::flush, maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
+    /**
+     * Commit everything queued so far, now. The future completes when the
+     * resulting group commit has finished.
+     */
+    CompletableFuture<Void> flushNow() {
+        try {
+            return CompletableFuture.runAsync(this::flush, flusher);
+        } catch (RejectedExecutionException e) {
+            // Shut down, and shutdown already committed everything that was queued
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Take the queue and commit it. Only ever runs on the flusher thread.
+     */
+    private void flush() {
+        List<PendingWrite> group;
+        synchronized (this) {
+            cancelScheduledFlush();
+            if (pending.isEmpty()) {
+                return;
+            }
+            group = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+
+        try {
+            writer.writeGroup(group);
+            groupsCommitted.incrementAndGet();
+            cvsCommitted.addAndGet(group.size());
+            maxGroupSize.accumulateAndGet(group.size(), Math::max);
+            group.forEach(PendingWrite::complete);
+        } catch (SQLException e) {
+            if (group.size() == 1) {
+                group.get(0).fail(e);
+                return;
+            }
+            System.err.println("Group commit of " + group.size() + " CVs failed, retrying one by one: " + e.getMessage());
+            groupFallbacks.incrementAndGet();
+            for (PendingWrite write : group) {
+                try {
+                    writer.writeGroup(List.of(write));
+                    groupsCommitted.incrementAndGet();
+                    cvsCommitted.incrementAndGet();
+                    write.complete();
+                } catch (SQLException single) {
+                    write.fail(single);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Never leave callers waiting on a future nobody will complete
+            group.forEach(write -> write.fail(e));
+            throw e;
+        }
+    }
+
+    private void cancelScheduledFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+
+    synchronized int getQueueDepth() {
+        return pending.size();
+    }
+
+    WriteBehindStats getStats() {
+        return new WriteBehindStats(getQueueDepth(), writesQueued.get(), writesMerged.get(),
+            groupsCommitted.get(), cvsCommitted.get(), groupFallbacks.get(), maxGroupSize.get());
+    }
+
+    /**
+     * Commit whatever is still queued and stop the flusher thread. Writes queued
+     * after this fail with an SQLException.
+     */
+    void shutdown() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        flushNow().join();
+        flusher.shutdown();
+    }
+
+    /**
+     * One queued CV write and every caller waiting on it
+     */
+    static class PendingWrite {
+        final boolean insert;
+        // Replaced by the writer with the stored snapshot, carrying the generated id of an insert
+        CVSnapshot snapshot;
+        final List<CompletableFuture<Long>> futures = new ArrayList<>(1);
+
+        PendingWrite(CVSnapshot snapshot, boolean insert) {
+            this.snapshot = snapshot;
+            this.insert = insert;
+        }
+
+        private void complete() {
+            for (CompletableFuture<Long> future : futures) {
+                future.complete(snapshot.id());
+            }
+        }
+
+        private void fail(Exception e) {
+            for (CompletableFuture<Long> future : futures) {
+                future.completeExceptionally(new CompletionException("Failed to save CV", e));
+            }
+        }
+    }
+
+    /**
+     * Point-in-time statistics of the write-behind queue
+     */
+    public static class WriteBehindStats {
+        private final int queueDepth;
+        private final long writesQueued;
+        private final long writesMerged;
+        private final long groupsCommitted;
+        private final long cvsCommitted;
+        private final long groupFallbacks;
+        private final long maxGroupSize;
+
+        WriteBehindStats(int queueDepth, long writesQueued, long writesMerged, long groupsCommitted,
+                         long cvsCommitted, long groupFallbacks, long maxGroupSize) {
+            this.queueDepth = queueDepth;
+            this.writesQueued = writesQueued;
+            this.writesMerged = writesMerged;
+            this.groupsCommitted = groupsCommitted;
+            this.cvsCommitted = cvsCommitted;
+            this.groupFallbacks = groupFallbacks;
+            this.maxGroupSize = maxGroupSize;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public long getWritesQueued() {
+            return writesQueued;
+        }
+
+        /**
+         * Writes folded into an already queued write for the same CV
+         */
+        public long getWritesMerged() {
+            return writesMerged;
+        }
+
+        public long getGroupsCommitted() {
+            return groupsCommitted;
+        }
+
+        public long getCvsCommitted() {
+            return cvsCommitted;
+        }
+
+        /**
+         * Groups that failed and were retried one CV per transaction
+         */
+        public long getGroupFallbacks() {
+            return groupFallbacks;
+        }
+
+        public long getMaxGroupSize() {
+            return maxGroupSize;
+        }
+
+        public double getAverageGroupSize() {
+            return groupsCommitted == 0 ? 0 : cvsCommitted / (double) groupsCommitted;
+        }
+
+        @Override
+        public String toString() {
+            return "WriteBehindStats{" +
+                    "queueDepth=" + queueDepth +
+                    ", writesQueued=" + writesQueued +
+                    ", writesMerged=" + writesMerged +
+                    ", groupsCommitted=" + groupsCommitted +
+                    ", cvsCommitted=" + cvsCommitted +
+                    ", groupFallbacks=" + groupFallbacks +
+                    ", maxGroupSize=" + maxGroupSize +
+                    '}';
+        }
+    }
+}
@@ -5,10 +5,13 @@ import javafx.collections.ObservableList;
 import javafx.beans.property.*;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Model class to represent and store CV data
- * Supports database persistence and Observable properties for JavaFX
+ * Model class to represent and edit CV data
+ * Observable properties for JavaFX; the repository and batch pipelines work on
+ * CVSnapshot, converted with fromSnapshot and toSnapshot
  */
 public class CV {
     // Database fields
@@ -149,6 +152,71 @@ public class CV {
                 !experiences.isEmpty();
     }
 
+    /**
+     * Editable CV holding the snapshot's values, including its database ids
+     */
+    public static CV fromSnapshot(CVSnapshot snapshot) {
+        CV cv = new CV();
+        cv.setId(snapshot.id());
+        cv.setCreatedAt(snapshot.createdAt());
+        cv.setUpdatedAt(snapshot.updatedAt());
+        cv.setFullName(snapshot.fullName());
+        cv.setEmail(snapshot.email());
+        cv.setPhoneNumber(snapshot.phoneNumber());
+        cv.setAddress(snapshot.address());
+        cv.setProfilePhoto(snapshot.profilePhoto());
+        List<Education> educations = new ArrayList<>(snapshot.educations().length);
+        for (CVSnapshot.Education edu : snapshot.educations()) {
+            Education entry = new Education(edu.institution(), edu.degree(), edu.fieldOfStudy(), edu.graduationYear());
+            entry.setId(edu.id());
+            educations.add(entry);
+        }
+        cv.educations.setAll(educations);
+        List<Experience> experiences = new ArrayList<>(snapshot.experiences().length);
+        for (CVSnapshot.Experience exp : snapshot.experiences()) {
+            Experience entry = new Experience(exp.company(), exp.position(), exp.startDate(), exp.endDate(),
+                exp.description());
+            entry.setId(exp.id());
+            experiences.add(entry);
+        }
+        cv.experiences.setAll(experiences);
+        List<Project> projects = new ArrayList<>(snapshot.projects().length);
+        for (CVSnapshot.Project proj : snapshot.projects()) {
+            Project entry = new Project(proj.title(), proj.description(), proj.technologies());
+            entry.setId(proj.id());
+            projects.add(entry);
+        }
+        cv.projects.setAll(projects);
+        cv.skills.setAll(snapshot.skills());
+        return cv;
+    }
+
+    /**
+     * Immutable copy of the current values, for the repository, exports and renderers
+     */
+    public CVSnapshot toSnapshot() {
+        CVSnapshot.Education[] educationEntries = new CVSnapshot.Education[educations.size()];
+        for (int i = 0; i < educationEntries.length; i++) {
+            Education edu = educations.get(i);
+            educationEntries[i] = new CVSnapshot.Education(edu.id, edu.institution, edu.degree,
+                edu.fieldOfStudy, edu.graduationYear);
+        }
+        CVSnapshot.Experience[] experienceEntries = new CVSnapshot.Experience[experiences.size()];
+        for (int i = 0; i < experienceEntries.length; i++) {
+            Experience exp = experiences.get(i);
+            experienceEntries[i] = new CVSnapshot.Experience(exp.id, exp.company, exp.position,
+                exp.startDate, exp.endDate, exp.description);
+        }
+        CVSnapshot.Project[] projectEntries = new CVSnapshot.Project[projects.size()];
+        for (int i = 0; i < projectEntries.length; i++) {
+            Project proj = projects.get(i);
+            projectEntries[i] = new CVSnapshot.Project(proj.id, proj.title, proj.description, proj.technologies);
+        }
+        return new CVSnapshot(id, getFullName(), getEmail(), getPhoneNumber(), getAddress(), getProfilePhoto(),
+            createdAt, updatedAt, educationEntries, experienceEntries, projectEntries,
+            skills.toArray(new String[0]));
+    }
+
     @Override
     public String toString() {
         return "CV{" +
@@ -162,6 +230,7 @@ public class CV {
      * Inner class for Education entries
      */
     public static class Education {
+        private long id;
         private String institution;
         private String degree;
         private String fieldOfStudy;
@@ -174,6 +243,15 @@ public class CV {
             this.graduationYear = graduationYear;
         }
 
+        // Database row id, 0 until the entry has been loaded from the database
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
         public String getInstitution() {
             return institution;
         }
@@ -211,6 +289,7 @@ public class CV {
      * Inner class for Work Experience entries
      */
     public static class Experience {
+        private long id;
         private String company;
         private String position;
         private String startDate;
@@ -225,6 +304,15 @@ public class CV {
             this.description = description;
         }
 
+        // Database row id, 0 until the entry has been loaded from the database
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
         public String getCompany() {
             return company;
         }
@@ -270,6 +358,7 @@ public class CV {
      * Inner class for Project entries
      */
     public static class Project {
+        private long id;
         private String title;
         private String description;
         private String technologies;
@@ -280,6 +369,15 @@ public class CV {
             this.technologies = technologies;
         }
 
+        // Database row id, 0 until the entry has been loaded from the database
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
         public String getTitle() {
             return title;
         }
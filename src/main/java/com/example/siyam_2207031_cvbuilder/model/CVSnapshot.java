@@ -0,0 +1,115 @@
+package com.example.siyam_2207031_cvbuilder.model;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable, compact form of a CV for persistence, import, export and rendering
+ *
+ * Plain strings and arrays: no JavaFX properties or observable lists, so it
+ * costs a fraction of a CV's memory, works headless and can be shared between
+ * threads without copying. The UI edits an observable CV and converts at the
+ * edge with CV.fromSnapshot and CV.toSnapshot. The arrays belong to the
+ * snapshot and are never written after construction; callers must not modify
+ * them either.
+ */
+public record CVSnapshot(long id, String fullName, String email, String phoneNumber, String address,
+                         String profilePhoto, Timestamp createdAt, Timestamp updatedAt,
+                         Education[] educations, Experience[] experiences, Project[] projects, String[] skills) {
+
+    private static final Education[] NO_EDUCATIONS = {};
+    private static final Experience[] NO_EXPERIENCES = {};
+    private static final Project[] NO_PROJECTS = {};
+    private static final String[] NO_SKILLS = {};
+
+    /**
+     * Null arrays become the shared empty ones, so CVs without entries cost nothing extra
+     */
+    public CVSnapshot {
+        educations = educations == null || educations.length == 0 ? NO_EDUCATIONS : educations;
+        experiences = experiences == null || experiences.length == 0 ? NO_EXPERIENCES : experiences;
+        projects = projects == null || projects.length == 0 ? NO_PROJECTS : projects;
+        skills = skills == null || skills.length == 0 ? NO_SKILLS : skills;
+    }
+
+    /**
+     * The same CV with another database id, e.g. the one generated by an insert
+     */
+    public CVSnapshot withId(long id) {
+        return new CVSnapshot(id, fullName, email, phoneNumber, address, profilePhoto, createdAt, updatedAt,
+            educations, experiences, projects, skills);
+    }
+
+    /**
+     * Same rules as CV.isValid
+     */
+    public boolean isValid() {
+        return hasText(fullName) && hasText(email) && hasText(phoneNumber) && hasText(address)
+            && educations.length > 0 && skills.length > 0 && experiences.length > 0;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CVSnapshot other)) {
+            return false;
+        }
+        return id == other.id
+            && Objects.equals(fullName, other.fullName)
+            && Objects.equals(email, other.email)
+            && Objects.equals(phoneNumber, other.phoneNumber)
+            && Objects.equals(address, other.address)
+            && Objects.equals(profilePhoto, other.profilePhoto)
+            && Objects.equals(createdAt, other.createdAt)
+            && Objects.equals(updatedAt, other.updatedAt)
+            && Arrays.equals(educations, other.educations)
+            && Arrays.equals(experiences, other.experiences)
+            && Arrays.equals(projects, other.projects)
+            && Arrays.equals(skills, other.skills);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(id, fullName, email, phoneNumber, address, profilePhoto, createdAt, updatedAt);
+        result = 31 * result + Arrays.hashCode(educations);
+        result = 31 * result + Arrays.hashCode(experiences);
+        result = 31 * result + Arrays.hashCode(projects);
+        return 31 * result + Arrays.hashCode(skills);
+    }
+
+    @Override
+    public String toString() {
+        return "CVSnapshot{" +
+                "id=" + id +
+                ", fullName='" + fullName + '\'' +
+                ", email='" + email + '\'' +
+                '}';
+    }
+
+    /**
+     * Education entry; id is the database row id, 0 for an entry not stored yet
+     */
+    public record Education(long id, String institution, String degree, String fieldOfStudy,
+                            String graduationYear) {
+    }
+
+    /**
+     * Work experience entry; id is the database row id, 0 for an entry not stored yet
+     */
+    public record Experience(long id, String company, String position, String startDate, String endDate,
+                             String description) {
+    }
+
+    /**
+     * Project entry; id is the database row id, 0 for an entry not stored yet
+     */
+    public record Project(long id, String title, String description, String technologies) {
+    }
+}
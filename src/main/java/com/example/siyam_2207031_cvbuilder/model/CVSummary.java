@@ -0,0 +1,17 @@
+package com.example.siyam_2207031_cvbuilder.model;
+
+import java.sql.Timestamp;
+
+/**
+ * Read-only list row for a CV: only the columns shown in the CV table
+ * Loaded without any child rows; the full CV is fetched by id when needed
+ */
+public record CVSummary(long id, String fullName, String email, String phoneNumber, Timestamp createdAt) {
+
+    /**
+     * Project a CV snapshot onto its list row
+     */
+    public static CVSummary of(CVSnapshot cv) {
+        return new CVSummary(cv.id(), cv.fullName(), cv.email(), cv.phoneNumber(), cv.createdAt());
+    }
+}
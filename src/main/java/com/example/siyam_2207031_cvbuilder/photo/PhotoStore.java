@@ -0,0 +1,224 @@
+package com.example.siyam_2207031_cvbuilder.photo;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed store of profile photos, serving them as cached thumbnails
+ *
+ * An imported photo is named by the SHA-256 of its bytes (the photo id, which
+ * is what CV.profilePhoto holds), so importing the same file twice stores it
+ * once. Files live under the store directory as ab/abcdef..., the original
+ * bytes untouched. Thumbnails are decoded and scaled on a pool of background
+ * threads, one per core, and kept in a ThumbnailCache bounded by bytes;
+ * concurrent requests for the same thumbnail share one decode.
+ *
+ * The directory is set by -Dcvbuilder.photos.dir (default "photos") and the
+ * cache size by -Dcvbuilder.photos.cacheMB (default 64).
+ */
+public final class PhotoStore {
+    public static final int DEFAULT_THUMBNAIL_SIZE = 128;
+    private static final Pattern PHOTO_ID = Pattern.compile("[0-9a-f]{64}");
+    private static final long DEFAULT_CACHE_MB = 64;
+
+    private static PhotoStore instance;
+
+    private final Path directory;
+    private final ThumbnailCache cache;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<String, CompletableFuture<Thumbnail>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong generateNanos = new AtomicLong();
+
+    public PhotoStore(Path directory, long cacheBytes, int threads) {
+        this.directory = directory;
+        this.cache = new ThumbnailCache(cacheBytes);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("CV-Photo-" + counter.incrementAndGet());
+            return thread;
+        });
+    }
+
+    public static synchronized PhotoStore getInstance() {
+        if (instance == null) {
+            instance = new PhotoStore(Path.of(System.getProperty("cvbuilder.photos.dir", "photos")),
+                Long.getLong("cvbuilder.photos.cacheMB", DEFAULT_CACHE_MB) * 1024 * 1024,
+                Runtime.getRuntime().availableProcessors());
+        }
+        return instance;
+    }
+
+    public static boolean isPhotoId(String value) {
+        return value != null && PHOTO_ID.matcher(value).matches();
+    }
+
+    /**
+     * Copy an image file into the store and return its photo id. The default
+     * thumbnail is then generated in the background.
+     *
+     * @throws IOException if the file cannot be read or is not an image ImageIO can decode
+     */
+    public String importPhoto(Path source) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "import-", ".tmp");
+        try {
+            MessageDigest digest = newDigest();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(source), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+            }
+            if (!isImage(temp)) {
+                throw new IOException("Not a supported image: " + source);
+            }
+            String photoId = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(photoId);
+            if (Files.exists(target)) {
+                deduplicated.incrementAndGet();
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                    imported.incrementAndGet();
+                } catch (FileAlreadyExistsException e) {
+                    // Another thread imported the same photo first
+                    deduplicated.incrementAndGet();
+                }
+            }
+            thumbnail(photoId, DEFAULT_THUMBNAIL_SIZE);
+            return photoId;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * importPhoto on the photo pool
+     */
+    public CompletableFuture<String> importPhotoAsync(Path source) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return importPhoto(source);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Path of a stored photo's original bytes
+     */
+    public Path resolve(String photoId) {
+        if (!isPhotoId(photoId)) {
+            throw new IllegalArgumentException("Invalid photo id: " + photoId);
+        }
+        return directory.resolve(photoId.substring(0, 2)).resolve(photoId);
+    }
+
+    public boolean contains(String photoId) {
+        return isPhotoId(photoId) && Files.exists(resolve(photoId));
+    }
+
+    /**
+     * The photo scaled to fit a size x size box. Completes immediately from the
+     * cache, otherwise decodes on the photo pool.
+     */
+    public CompletableFuture<Thumbnail> thumbnail(String photoId, int size) {
+        Thumbnail cached = cache.get(photoId, size);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        String key = photoId + "@" + size;
+        CompletableFuture<Thumbnail> pending = new CompletableFuture<>();
+        CompletableFuture<Thumbnail> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            return existing;
+        }
+        executor.execute(() -> {
+            try {
+                long start = System.nanoTime();
+                Thumbnail thumbnail = ThumbnailScaler.scale(photoId, resolve(photoId), size);
+                generateNanos.addAndGet(System.nanoTime() - start);
+                generated.incrementAndGet();
+                cache.put(thumbnail);
+                inFlight.remove(key, pending);
+                pending.complete(thumbnail);
+            } catch (IOException | RuntimeException e) {
+                inFlight.remove(key, pending);
+                pending.completeExceptionally(new CompletionException(e));
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Generate the thumbnails of many photos in parallel, e.g. before showing a list
+     */
+    public CompletableFuture<Void> prefetch(Collection<String> photoIds, int size) {
+        return CompletableFuture.allOf(photoIds.stream()
+            .map(photoId -> thumbnail(photoId, size))
+            .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Drop every cached thumbnail; stored photos are kept
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    public PhotoStats getStats() {
+        return new PhotoStats(imported.get(), deduplicated.get(), generated.get(), generateNanos.get(),
+            cache.getStats());
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static boolean isImage(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            return in != null && ImageIO.getImageReaders(in).hasNext();
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Counters since the store was created; generateNanos is summed over all pool threads
+     */
+    public record PhotoStats(long imported, long deduplicated, long thumbnailsGenerated, long generateNanos,
+                             ThumbnailCache.CacheStats cache) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.siyam_2207031_cvbuilder.photo;
+
+import java.nio.IntBuffer;
+
+/**
+ * A pre-scaled photo held outside the Java heap
+ *
+ * Pixels are premultiplied ARGB ints in a direct buffer, row by row, which is
+ * the layout javafx.scene.image.PixelBuffer takes as-is with
+ * PixelFormat.getIntArgbPreInstance(), so the UI can show a thumbnail without
+ * copying or decoding anything on the FX thread.
+ */
+public final class Thumbnail {
+    private final String photoId;
+    private final int size;
+    private final int width;
+    private final int height;
+    private final IntBuffer pixels;
+
+    Thumbnail(String photoId, int size, int width, int height, IntBuffer pixels) {
+        this.photoId = photoId;
+        this.size = size;
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    public String getPhotoId() {
+        return photoId;
+    }
+
+    /**
+     * The bounding box the photo was scaled to fit
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Read-only view of the pixels, positioned at the first one
+     */
+    public IntBuffer getPixels() {
+        return pixels.duplicate();
+    }
+
+    public long getSizeBytes() {
+        return (long) width * height * Integer.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return "Thumbnail{" +
+                "photoId='" + photoId + '\'' +
+                ", size=" + size +
+                ", width=" + width +
+                ", height=" + height +
+                '}';
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.siyam_2207031_cvbuilder.photo;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of thumbnails, keyed by photo and size
+ *
+ * Bounded by the bytes of pixel data held. The pixels live in direct buffers,
+ * so a full cache costs the heap only a few objects per thumbnail; the native
+ * memory of an evicted thumbnail is freed once nothing else refers to it.
+ */
+public class ThumbnailCache {
+    private final long maxBytes;
+    private final Map<Key, Thumbnail> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long retainedBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param maxBytes max bytes of pixel data held; 0 disables the cache
+     */
+    ThumbnailCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * The cached thumbnail, or null on a miss
+     */
+    synchronized Thumbnail get(String photoId, int size) {
+        Thumbnail thumbnail = entries.get(new Key(photoId, size));
+        (thumbnail != null ? hits : misses).incrementAndGet();
+        return thumbnail;
+    }
+
+    synchronized void put(Thumbnail thumbnail) {
+        long size = thumbnail.getSizeBytes();
+        if (size > maxBytes) {
+            return;
+        }
+        Thumbnail previous = entries.put(new Key(thumbnail.getPhotoId(), thumbnail.getSize()), thumbnail);
+        if (previous != null) {
+            retainedBytes -= previous.getSizeBytes();
+        }
+        retainedBytes += size;
+
+        Iterator<Thumbnail> eldest = entries.values().iterator();
+        while (retainedBytes > maxBytes && eldest.hasNext()) {
+            retainedBytes -= eldest.next().getSizeBytes();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        retainedBytes = 0;
+    }
+
+    synchronized CacheStats getStats() {
+        return new CacheStats(entries.size(), retainedBytes, hits.get(), misses.get(), evictions.get());
+    }
+
+    private record Key(String photoId, int size) {
+    }
+
+    /**
+     * Point-in-time statistics of the thumbnail cache
+     */
+    public static class CacheStats {
+        private final int size;
+        private final long retainedBytes;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        CacheStats(int size, long retainedBytes, long hits, long misses, long evictions) {
+            this.size = size;
+            this.retainedBytes = retainedBytes;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public long getRetainedBytes() {
+            return retainedBytes;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : hits / (double) lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStats{" +
+                    "size=" + size +
+                    ", retainedBytes=" + retainedBytes +
+                    ", hits=" + hits +
+                    ", misses=" + misses +
+                    ", evictions=" + evictions +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.siyam_2207031_cvbuilder.photo;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Decodes a photo straight to thumbnail size with ImageIO
+ *
+ * The decoder is asked to skip rows and columns so that at most twice the
+ * target size is ever decoded; a bilinear pass then scales the rest. A 12
+ * megapixel photo never exists at full resolution in memory. Safe to use from
+ * several threads at once.
+ */
+final class ThumbnailScaler {
+
+    private ThumbnailScaler() {
+    }
+
+    /**
+     * The photo at path scaled to fit a size x size box, keeping its aspect
+     * ratio; photos smaller than the box keep their own size
+     */
+    static Thumbnail scale(String photoId, Path path, int size) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            if (in == null) {
+                throw new IOException("Cannot open photo " + path);
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format: " + path);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                double scale = Math.min(1.0, size / (double) Math.max(width, height));
+                int targetWidth = Math.max(1, (int) Math.round(width * scale));
+                int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.min(width / (targetWidth * 2), height / (targetHeight * 2)));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                BufferedImage decoded = reader.read(0, param);
+                return new Thumbnail(photoId, size, targetWidth, targetHeight,
+                    toDirectBuffer(draw(decoded, targetWidth, targetHeight)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static IntBuffer toDirectBuffer(BufferedImage image) {
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        IntBuffer buffer = ByteBuffer.allocateDirect(pixels.length * Integer.BYTES)
+            .order(ByteOrder.nativeOrder())
+            .asIntBuffer();
+        buffer.put(pixels).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+}
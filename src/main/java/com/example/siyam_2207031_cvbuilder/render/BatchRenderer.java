@@ -0,0 +1,147 @@
+package com.example.siyam_2207031_cvbuilder.render;
+
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders many CVs in parallel into an output directory, one file per CV and
+ * renderer, named cv-<id>.<extension>
+ *
+ * Rendering and writing run on a pool with one thread per core. At most a few
+ * CVs per thread are queued at a time, so rendering straight from
+ * CVRepository.streamAll keeps memory flat for any database size.
+ */
+public class BatchRenderer {
+    private static final int QUEUED_PER_THREAD = 4;
+
+    private final List<CVRenderer> renderers;
+    private final int threads;
+
+    public BatchRenderer(List<CVRenderer> renderers) {
+        this(renderers, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchRenderer(List<CVRenderer> renderers, int threads) {
+        if (renderers.isEmpty()) {
+            throw new IllegalArgumentException("At least one renderer is required");
+        }
+        this.renderers = List.copyOf(renderers);
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Render every CV in the database
+     */
+    public BatchReport renderAll(CVRepository repository, Path outputDir) throws IOException, SQLException {
+        Files.createDirectories(outputDir);
+        try (Run run = new Run(outputDir)) {
+            repository.streamAll(threads * QUEUED_PER_THREAD, chunk -> chunk.forEach(run::submit));
+            return run.finish();
+        }
+    }
+
+    /**
+     * Render the given CVs
+     */
+    public BatchReport renderAll(Collection<CVSnapshot> cvs, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        try (Run run = new Run(outputDir)) {
+            cvs.forEach(run::submit);
+            return run.finish();
+        }
+    }
+
+    /**
+     * One batch: its pool, the gate bounding queued work, and its counters
+     */
+    private class Run implements AutoCloseable {
+        private final Path outputDir;
+        private final ExecutorService pool;
+        private final Semaphore queued = new Semaphore(threads * QUEUED_PER_THREAD);
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong documents = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        Run(Path outputDir) {
+            this.outputDir = outputDir;
+            AtomicInteger counter = new AtomicInteger();
+            this.pool = Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r);
+                thread.setDaemon(true);
+                thread.setName("CV-Render-" + counter.incrementAndGet());
+                return thread;
+            });
+        }
+
+        void submit(CVSnapshot cv) {
+            queued.acquireUninterruptibly();
+            pool.execute(() -> {
+                try {
+                    for (CVRenderer renderer : renderers) {
+                        render(cv, renderer);
+                    }
+                } finally {
+                    queued.release();
+                }
+            });
+        }
+
+        private void render(CVSnapshot cv, CVRenderer renderer) {
+            try {
+                byte[] document = renderer.render(cv);
+                Files.write(outputDir.resolve("cv-" + cv.id() + "." + renderer.getFileExtension()), document);
+                documents.incrementAndGet();
+                bytes.addAndGet(document.length);
+            } catch (IOException | RuntimeException e) {
+                errors.add("CV " + cv.id() + " (" + renderer.getFileExtension() + "): " + e);
+            }
+        }
+
+        BatchReport finish() {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new BatchReport(documents.get(), bytes.get(), System.nanoTime() - startNanos, List.copyOf(errors));
+        }
+
+        @Override
+        public void close() {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Outcome of a batch render
+     */
+    public record BatchReport(long documents, long bytes, long elapsedNanos, List<String> errors) {
+
+        public double documentsPerSecond() {
+            return elapsedNanos == 0 ? 0 : documents / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d documents, %.1f MB in %.2f s (%.0f docs/s), %d errors",
+                documents, bytes / 1e6, elapsedNanos / 1e9, documentsPerSecond(), errors.size());
+        }
+    }
+}
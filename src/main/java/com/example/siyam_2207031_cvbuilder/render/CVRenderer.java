@@ -0,0 +1,20 @@
+package com.example.siyam_2207031_cvbuilder.render;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+/**
+ * Turns a CV snapshot into a standalone document without touching the JavaFX scene graph
+ * Implementations must be safe to call from several threads at once.
+ */
+public interface CVRenderer {
+
+    /**
+     * File extension of the rendered documents, without the dot
+     */
+    String getFileExtension();
+
+    /**
+     * The complete document for one CV
+     */
+    byte[] render(CVSnapshot cv);
+}
@@ -0,0 +1,65 @@
+package com.example.siyam_2207031_cvbuilder.render;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+/**
+ * A compiled CV template: the template text already parsed into a flat plan
+ * of literal chunks, bound field getters and loops. Rendering walks the plan
+ * once and appends straight into the caller's builder, with no parsing,
+ * lookups or reflection per document. Instances are immutable and thread-safe.
+ */
+public final class CVTemplate {
+
+    /**
+     * One step of a render plan
+     */
+    interface Segment<T> {
+        void render(T context, StringBuilder out);
+    }
+
+    private final String id;
+    private final Segment<CVSnapshot>[] plan;
+
+    CVTemplate(String id, Segment<CVSnapshot>[] plan) {
+        this.id = id;
+        this.plan = plan;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Append the rendered CV to the builder
+     */
+    public void render(CVSnapshot cv, StringBuilder out) {
+        for (Segment<CVSnapshot> segment : plan) {
+            segment.render(cv, out);
+        }
+    }
+
+    /**
+     * Append text with the HTML special characters escaped; null appends nothing
+     */
+    static void escape(StringBuilder out, String text) {
+        if (text == null) {
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            String entity = switch (text.charAt(i)) {
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '&' -> "&amp;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (entity != null) {
+                out.append(text, start, i).append(entity);
+                start = i + 1;
+            }
+        }
+        out.append(text, start, text.length());
+    }
+}
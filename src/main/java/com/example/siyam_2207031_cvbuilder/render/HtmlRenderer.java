@@ -0,0 +1,58 @@
+package com.example.siyam_2207031_cvbuilder.render;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders a CV as a self-contained HTML page through a compiled template from
+ * TemplateRegistry. The default "classic" template is laid out like the
+ * preview screen; "compact" is a two-column alternative.
+ */
+public class HtmlRenderer implements CVRenderer {
+    public static final String DEFAULT_TEMPLATE = "classic";
+
+    // Per-thread output buffer, reused across documents; dropped if one huge CV grew it too far
+    private static final int MAX_RETAINED_BUFFER = 1 << 20;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8192));
+
+    private final String templateId;
+    private final TemplateRegistry registry = TemplateRegistry.getInstance();
+
+    public HtmlRenderer() {
+        this(DEFAULT_TEMPLATE);
+    }
+
+    public HtmlRenderer(String templateId) {
+        this.templateId = templateId;
+        registry.get(templateId);
+    }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "html";
+    }
+
+    @Override
+    public byte[] render(CVSnapshot cv) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        render(cv, out);
+        byte[] document = out.toString().getBytes(StandardCharsets.UTF_8);
+        if (out.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return document;
+    }
+
+    /**
+     * Append the page to a caller-supplied builder, so batch callers can reuse one
+     */
+    public void render(CVSnapshot cv, StringBuilder out) {
+        registry.get(templateId).render(cv, out);
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.siyam_2207031_cvbuilder.render;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Minimal PDF 1.4 writer: A4 pages of text and rules in the standard Helvetica
+ * fonts, which every viewer ships, so no font data is embedded. Text is encoded
+ * as WinAnsi; other characters outside Latin-1 are written as '?'.
+ */
+final class PdfDocument {
+    static final float PAGE_WIDTH = 595;
+    static final float PAGE_HEIGHT = 842;
+
+    enum Font {
+        REGULAR("F1", "Helvetica", HelveticaMetrics.REGULAR),
+        BOLD("F2", "Helvetica-Bold", HelveticaMetrics.BOLD),
+        ITALIC("F3", "Helvetica-Oblique", HelveticaMetrics.REGULAR);
+
+        private final String resourceName;
+        private final String baseFont;
+        private final short[] widths;
+
+        Font(String resourceName, String baseFont, short[] widths) {
+            this.resourceName = resourceName;
+            this.baseFont = baseFont;
+            this.widths = widths;
+        }
+
+        /**
+         * Width of the text in points at the given font size
+         */
+        float width(String text, float size) {
+            int units = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                units += c >= 32 && c < 127 ? widths[c - 32] : HelveticaMetrics.DEFAULT_WIDTH;
+            }
+            return units * size / 1000f;
+        }
+    }
+
+    private final List<StringBuilder> pages = new ArrayList<>();
+    private StringBuilder page;
+
+    PdfDocument() {
+        newPage();
+    }
+
+    void newPage() {
+        page = new StringBuilder(4096);
+        pages.add(page);
+    }
+
+    /**
+     * Draw one line of text with its baseline at y (PDF coordinates, origin bottom-left)
+     */
+    void text(String text, Font font, float size, int rgb, float x, float y) {
+        page.append("BT /").append(font.resourceName).append(' ').append(number(size)).append(" Tf ");
+        color(rgb, "rg");
+        page.append(number(x)).append(' ').append(number(y)).append(" Td (");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                page.append('\\').append(c);
+            } else if (c < 32) {
+                page.append(' ');
+            } else if (c > 255) {
+                page.append(winAnsi(c));
+            } else {
+                page.append(c);
+            }
+        }
+        page.append(") Tj ET\n");
+    }
+
+    /**
+     * WinAnsi code of the common typographic characters outside Latin-1
+     */
+    private static char winAnsi(char c) {
+        return switch (c) {
+            case '\u20AC' -> (char) 0x80;
+            case '\u2026' -> (char) 0x85;
+            case '\u2018' -> (char) 0x91;
+            case '\u2019' -> (char) 0x92;
+            case '\u201C' -> (char) 0x93;
+            case '\u201D' -> (char) 0x94;
+            case '\u2022' -> (char) 0x95;
+            case '\u2013' -> (char) 0x96;
+            case '\u2014' -> (char) 0x97;
+            default -> '?';
+        };
+    }
+
+    /**
+     * Draw a straight rule
+     */
+    void line(float x1, float y1, float x2, float y2, float width, int rgb) {
+        color(rgb, "RG");
+        page.append(number(width)).append(" w ")
+            .append(number(x1)).append(' ').append(number(y1)).append(" m ")
+            .append(number(x2)).append(' ').append(number(y2)).append(" l S\n");
+    }
+
+    private void color(int rgb, String operator) {
+        page.append(number(((rgb >> 16) & 0xFF) / 255f)).append(' ')
+            .append(number(((rgb >> 8) & 0xFF) / 255f)).append(' ')
+            .append(number((rgb & 0xFF) / 255f)).append(' ').append(operator).append(' ');
+    }
+
+    private static String number(float value) {
+        if (value == (int) value) {
+            return Integer.toString((int) value);
+        }
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    /**
+     * Serialize the document: catalog, page tree, fonts, then a page and a
+     * content stream object per page, followed by the cross-reference table
+     */
+    byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192 + pages.size() * 4096);
+        List<Integer> offsets = new ArrayList<>();
+        Font[] fonts = Font.values();
+        int firstPage = 3 + fonts.length;
+
+        write(out, "%PDF-1.4\n%âãÏÓ\n");
+        offsets.add(out.size());
+        write(out, "1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n");
+
+        StringBuilder kids = new StringBuilder();
+        for (int i = 0; i < pages.size(); i++) {
+            kids.append(firstPage + 2 * i).append(" 0 R ");
+        }
+        offsets.add(out.size());
+        write(out, "2 0 obj\n<< /Type /Pages /Kids [" + kids + "] /Count " + pages.size() + " >>\nendobj\n");
+
+        StringBuilder fontResources = new StringBuilder();
+        for (int i = 0; i < fonts.length; i++) {
+            offsets.add(out.size());
+            write(out, (3 + i) + " 0 obj\n<< /Type /Font /Subtype /Type1 /BaseFont /" + fonts[i].baseFont
+                + " /Encoding /WinAnsiEncoding >>\nendobj\n");
+            fontResources.append('/').append(fonts[i].resourceName).append(' ').append(3 + i).append(" 0 R ");
+        }
+
+        for (int i = 0; i < pages.size(); i++) {
+            int pageObject = firstPage + 2 * i;
+            offsets.add(out.size());
+            write(out, pageObject + " 0 obj\n<< /Type /Page /Parent 2 0 R /MediaBox [0 0 "
+                + number(PAGE_WIDTH) + ' ' + number(PAGE_HEIGHT) + "] /Resources << /Font << " + fontResources
+                + ">> >> /Contents " + (pageObject + 1) + " 0 R >>\nendobj\n");
+            byte[] content = pages.get(i).toString().getBytes(StandardCharsets.ISO_8859_1);
+            offsets.add(out.size());
+            write(out, (pageObject + 1) + " 0 obj\n<< /Length " + content.length + " >>\nstream\n");
+            out.writeBytes(content);
+            write(out, "endstream\nendobj\n");
+        }
+
+        int xref = out.size();
+        StringBuilder table = new StringBuilder("xref\n0 ").append(offsets.size() + 1).append("\n0000000000 65535 f \n");
+        for (int offset : offsets) {
+            table.append(String.format(Locale.ROOT, "%010d 00000 n \n", offset));
+        }
+        table.append("trailer\n<< /Size ").append(offsets.size() + 1).append(" /Root 1 0 R >>\nstartxref\n")
+            .append(xref).append("\n%%EOF\n");
+        write(out, table.toString());
+        return out.toByteArray();
+    }
+
+    private static void write(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Advance widths of the printable ASCII characters (32-126) from the
+     * Adobe Helvetica font metrics, in 1/1000 em
+     */
+    private static final class HelveticaMetrics {
+        static final short DEFAULT_WIDTH = 556;
+
+        static final short[] REGULAR = {
+            278, 278, 355, 556, 556, 889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278,
+            556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584, 556,
+            1015, 667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667, 556, 833, 722, 778,
+            667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 278, 278, 278, 469, 556,
+            333, 556, 556, 500, 556, 556, 278, 556, 556, 222, 222, 500, 222, 833, 556, 556,
+            556, 556, 333, 500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334, 584
+        };
+
+        static final short[] BOLD = {
+            278, 333, 474, 556, 556, 889, 722, 238, 333, 333, 389, 584, 278, 333, 278, 278,
+            556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 333, 333, 584, 584, 584, 611,
+            975, 722, 722, 722, 722, 667, 611, 778, 722, 278, 556, 722, 611, 833, 722, 778,
+            667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 333, 278, 333, 584, 556,
+            333, 556, 611, 556, 611, 556, 333, 611, 611, 278, 278, 556, 278, 889, 611, 611,
+            611, 611, 389, 556, 333, 611, 556, 778, 556, 556, 500, 389, 280, 389, 584
+        };
+
+        private HelveticaMetrics() {
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.siyam_2207031_cvbuilder.render;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+import com.example.siyam_2207031_cvbuilder.render.PdfDocument.Font;
+
+/**
+ * Renders a CV as an A4 PDF with the same sections and colours as the preview
+ * screen, in pure Java. Long text is word-wrapped and flows onto new pages.
+ */
+public class PdfRenderer implements CVRenderer {
+    private static final float MARGIN = 50;
+    private static final float CONTENT_WIDTH = PdfDocument.PAGE_WIDTH - 2 * MARGIN;
+    private static final float LINE_SPACING = 1.3f;
+
+    private static final int DARK = 0x2C3E50;
+    private static final int TEXT = 0x34495E;
+    private static final int ACCENT = 0x3498DB;
+    private static final int MUTED = 0x7F8C8D;
+
+    @Override
+    public String getFileExtension() {
+        return "pdf";
+    }
+
+    @Override
+    public byte[] render(CVSnapshot cv) {
+        Layout layout = new Layout();
+
+        layout.paragraph(cv.fullName(), Font.BOLD, 24, DARK);
+        layout.paragraph(join("Email: ", cv.email()) + "    " + join("Phone: ", cv.phoneNumber()),
+            Font.REGULAR, 10, TEXT);
+        layout.paragraph(cv.address(), Font.REGULAR, 10, TEXT);
+        layout.space(8);
+        layout.rule(ACCENT, 2);
+
+        layout.heading("WORK EXPERIENCE");
+        for (CVSnapshot.Experience experience : cv.experiences()) {
+            layout.keepTogether(4 * 14);
+            layout.paragraph(experience.position(), Font.BOLD, 12, DARK);
+            layout.paragraph(experience.company(), Font.BOLD, 11, ACCENT);
+            layout.paragraph(experience.startDate() + " - " + experience.endDate(), Font.ITALIC, 10, MUTED);
+            layout.paragraph(experience.description(), Font.REGULAR, 11, TEXT);
+            layout.space(8);
+        }
+
+        layout.heading("EDUCATION");
+        for (CVSnapshot.Education education : cv.educations()) {
+            layout.keepTogether(3 * 14);
+            layout.paragraph(education.institution(), Font.BOLD, 12, DARK);
+            layout.paragraph(education.degree() + " in " + education.fieldOfStudy(), Font.REGULAR, 11, ACCENT);
+            layout.paragraph("Graduation: " + education.graduationYear(), Font.ITALIC, 10, MUTED);
+            layout.space(8);
+        }
+
+        layout.heading("SKILLS");
+        for (String skill : cv.skills()) {
+            layout.paragraph("• " + skill, Font.REGULAR, 11, TEXT);
+        }
+
+        layout.heading("PROJECTS");
+        for (CVSnapshot.Project project : cv.projects()) {
+            layout.keepTogether(3 * 14);
+            layout.paragraph(project.title(), Font.BOLD, 12, DARK);
+            layout.paragraph("Technologies: " + project.technologies(), Font.BOLD, 10, ACCENT);
+            layout.paragraph(project.description(), Font.REGULAR, 11, TEXT);
+            layout.space(8);
+        }
+
+        return layout.document.toBytes();
+    }
+
+    private static String join(String label, String value) {
+        return value != null ? label + value : "";
+    }
+
+    /**
+     * Top-to-bottom flow layout with a cursor, breaking onto a new page when full
+     */
+    private static class Layout {
+        private final PdfDocument document = new PdfDocument();
+        private float y = PdfDocument.PAGE_HEIGHT - MARGIN;
+
+        void heading(String title) {
+            space(14);
+            keepTogether(40);
+            paragraph(title, Font.BOLD, 14, DARK);
+            space(4);
+        }
+
+        void space(float points) {
+            y -= points;
+        }
+
+        void rule(int rgb, float width) {
+            ensureRoom(width);
+            document.line(MARGIN, y, MARGIN + CONTENT_WIDTH, y, width, rgb);
+            y -= width;
+        }
+
+        /**
+         * Start a new page unless the given height still fits on this one
+         */
+        void keepTogether(float height) {
+            if (y - height < MARGIN) {
+                newPage();
+            }
+        }
+
+        /**
+         * Word-wrapped text; a word wider than the whole line is broken by character
+         */
+        void paragraph(String text, Font font, float size, int rgb) {
+            if (text == null || text.isEmpty()) {
+                return;
+            }
+            for (String sourceLine : text.split("\r?\n")) {
+                StringBuilder line = new StringBuilder();
+                for (String word : sourceLine.split(" ")) {
+                    String candidate = line.length() == 0 ? word : line + " " + word;
+                    if (font.width(candidate, size) <= CONTENT_WIDTH) {
+                        line.setLength(0);
+                        line.append(candidate);
+                        continue;
+                    }
+                    if (line.length() > 0) {
+                        emit(line.toString(), font, size, rgb);
+                        line.setLength(0);
+                    }
+                    while (font.width(word, size) > CONTENT_WIDTH) {
+                        int fit = fittingPrefix(word, font, size);
+                        emit(word.substring(0, fit), font, size, rgb);
+                        word = word.substring(fit);
+                    }
+                    line.append(word);
+                }
+                emit(line.toString(), font, size, rgb);
+            }
+        }
+
+        private static int fittingPrefix(String word, Font font, float size) {
+            int end = 1;
+            while (end < word.length() && font.width(word.substring(0, end + 1), size) <= CONTENT_WIDTH) {
+                end++;
+            }
+            return end;
+        }
+
+        private void emit(String line, Font font, float size, int rgb) {
+            float height = size * LINE_SPACING;
+            ensureRoom(height);
+            y -= size;
+            document.text(line, font, size, rgb, MARGIN, y);
+            y -= height - size;
+        }
+
+        private void ensureRoom(float height) {
+            if (y - height < MARGIN) {
+                newPage();
+            }
+        }
+
+        private void newPage() {
+            document.newPage();
+            y = PdfDocument.PAGE_HEIGHT - MARGIN;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.siyam_2207031_cvbuilder.render;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+import com.example.siyam_2207031_cvbuilder.render.CVTemplate.Segment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compiles template text into a CVTemplate render plan
+ *
+ * The syntax is a small subset of Mustache:
+ * {{field}} inserts an HTML-escaped value, {{#list}}...{{/list}} repeats its
+ * body for each entry, {{^list}}...{{/list}} is shown only when the list is
+ * empty, and {{! ...}} is a comment. Inside a list the entry's own fields are
+ * in scope; each skill is {{.}}. Names are bound to accessors here, once, so an
+ * unknown name fails at compile time with its line number rather than
+ * rendering blank. A section or comment tag alone on its line removes that
+ * whole line from the output.
+ */
+final class TemplateCompiler {
+
+    /**
+     * The fields and lists a template may use in one context
+     */
+    private static final class Scope<T> {
+        private final String name;
+        private final Map<String, Function<T, String>> fields = new HashMap<>();
+        private final Map<String, ListBinding<T, ?>> lists = new HashMap<>();
+
+        Scope(String name) {
+            this.name = name;
+        }
+
+        Scope<T> field(String field, Function<T, String> getter) {
+            fields.put(field, getter);
+            return this;
+        }
+
+        <E> Scope<T> list(String list, Function<T, E[]> items, Scope<E> scope) {
+            lists.put(list, new ListBinding<>(items, scope));
+            return this;
+        }
+    }
+
+    private record ListBinding<T, E>(Function<T, E[]> items, Scope<E> scope) {
+    }
+
+    private static final Scope<String> SKILL = new Scope<String>("skill")
+        .field(".", skill -> skill);
+
+    private static final Scope<CVSnapshot.Experience> EXPERIENCE = new Scope<CVSnapshot.Experience>("experience")
+        .field("company", CVSnapshot.Experience::company)
+        .field("position", CVSnapshot.Experience::position)
+        .field("startDate", CVSnapshot.Experience::startDate)
+        .field("endDate", CVSnapshot.Experience::endDate)
+        .field("description", CVSnapshot.Experience::description);
+
+    private static final Scope<CVSnapshot.Education> EDUCATION = new Scope<CVSnapshot.Education>("education")
+        .field("institution", CVSnapshot.Education::institution)
+        .field("degree", CVSnapshot.Education::degree)
+        .field("fieldOfStudy", CVSnapshot.Education::fieldOfStudy)
+        .field("graduationYear", CVSnapshot.Education::graduationYear);
+
+    private static final Scope<CVSnapshot.Project> PROJECT = new Scope<CVSnapshot.Project>("project")
+        .field("title", CVSnapshot.Project::title)
+        .field("technologies", CVSnapshot.Project::technologies)
+        .field("description", CVSnapshot.Project::description);
+
+    private static final Scope<CVSnapshot> ROOT = new Scope<CVSnapshot>("cv")
+        .field("id", cv -> Long.toString(cv.id()))
+        .field("fullName", CVSnapshot::fullName)
+        .field("email", CVSnapshot::email)
+        .field("phoneNumber", CVSnapshot::phoneNumber)
+        .field("address", CVSnapshot::address)
+        .field("profilePhoto", CVSnapshot::profilePhoto)
+        .list("experiences", CVSnapshot::experiences, EXPERIENCE)
+        .list("educations", CVSnapshot::educations, EDUCATION)
+        .list("projects", CVSnapshot::projects, PROJECT)
+        .list("skills", CVSnapshot::skills, SKILL);
+
+    private final String source;
+    private int pos;
+
+    private TemplateCompiler(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Compile template text; throws IllegalArgumentException on a syntax error
+     * or unknown name
+     */
+    static CVTemplate compile(String id, String source) {
+        TemplateCompiler compiler = new TemplateCompiler(source);
+        List<Segment<CVSnapshot>> plan = compiler.parse(ROOT, null);
+        return new CVTemplate(id, toArray(plan));
+    }
+
+    /**
+     * Parse up to the closing tag of the given section, or to the end of the
+     * text when closing is null
+     */
+    private <T> List<Segment<T>> parse(Scope<T> scope, String closing) {
+        List<Segment<T>> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        while (pos < source.length()) {
+            int open = source.indexOf("{{", pos);
+            if (open < 0) {
+                literal.append(source, pos, source.length());
+                pos = source.length();
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw error(open, "unclosed tag");
+            }
+            String tag = source.substring(open + 2, close).trim();
+            char kind = tag.isEmpty() ? ' ' : tag.charAt(0);
+            boolean block = kind == '#' || kind == '^' || kind == '/' || kind == '!';
+            String name = block ? tag.substring(1).trim() : tag;
+
+            int end = close + 2;
+            int lineStart = source.lastIndexOf('\n', open - 1) + 1;
+            int lineEnd = source.indexOf('\n', end);
+            if (block && isBlank(lineStart, open) && isBlank(end, lineEnd < 0 ? source.length() : lineEnd)) {
+                literal.append(source, pos, Math.max(pos, lineStart));
+                pos = lineEnd < 0 ? source.length() : lineEnd + 1;
+            } else {
+                literal.append(source, pos, open);
+                pos = end;
+            }
+
+            switch (kind) {
+                case '!' -> { }
+                case '/' -> {
+                    if (!name.equals(closing)) {
+                        throw error(open, "unexpected {{/" + name + "}}");
+                    }
+                    addLiteral(segments, literal);
+                    return segments;
+                }
+                case '#', '^' -> {
+                    addLiteral(segments, literal);
+                    ListBinding<T, ?> binding = scope.lists.get(name);
+                    if (binding == null) {
+                        throw error(open, "unknown list '" + name + "' in " + scope.name);
+                    }
+                    segments.add(kind == '#' ? loop(binding, name) : whenEmpty(binding, scope, name));
+                }
+                default -> {
+                    Function<T, String> getter = scope.fields.get(name);
+                    if (getter == null) {
+                        throw error(open, "unknown field '" + name + "' in " + scope.name);
+                    }
+                    addLiteral(segments, literal);
+                    segments.add((context, out) -> CVTemplate.escape(out, getter.apply(context)));
+                }
+            }
+        }
+        if (closing != null) {
+            throw error(source.length(), "missing {{/" + closing + "}}");
+        }
+        addLiteral(segments, literal);
+        return segments;
+    }
+
+    private <T, E> Segment<T> loop(ListBinding<T, E> binding, String name) {
+        Segment<E>[] body = toArray(parse(binding.scope(), name));
+        Function<T, E[]> items = binding.items();
+        return (context, out) -> {
+            for (E item : items.apply(context)) {
+                for (Segment<E> segment : body) {
+                    segment.render(item, out);
+                }
+            }
+        };
+    }
+
+    private <T> Segment<T> whenEmpty(ListBinding<T, ?> binding, Scope<T> scope, String name) {
+        Segment<T>[] body = toArray(parse(scope, name));
+        Function<T, ? extends Object[]> items = binding.items();
+        return (context, out) -> {
+            if (items.apply(context).length == 0) {
+                for (Segment<T> segment : body) {
+                    segment.render(context, out);
+                }
+            }
+        };
+    }
+
+    private static <T> void addLiteral(List<Segment<T>> segments, StringBuilder literal) {
+        if (literal.length() > 0) {
+            String text = literal.toString();
+            segments.add((context, out) -> out.append(text));
+            literal.setLength(0);
+        }
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(source.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private IllegalArgumentException error(int offset, String message) {
+        int line = 1;
+        for (int i = 0; i < offset && i < source.length(); i++) {
+            if (source.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return new IllegalArgumentException("Template line " + line + ": " + message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Segment<T>[] toArray(List<Segment<T>> segments) {
+        return (Segment<T>[]) segments.toArray(new Segment<?>[0]);
+    }
+}
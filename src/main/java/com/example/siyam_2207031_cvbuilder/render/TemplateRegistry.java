@@ -0,0 +1,132 @@
+package com.example.siyam_2207031_cvbuilder.render;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles CV templates once and caches them by id
+ *
+ * A template id names the file <id>.html, looked up first in the directory
+ * set by -Dcvbuilder.templates.dir and then among the built-in templates on
+ * the classpath. Templates loaded from the directory are hot-reloaded: at most
+ * once per cvbuilder.templates.reloadIntervalMs (default 1000) a lookup checks
+ * the file's modification time and recompiles it when it changed. If the new
+ * version does not compile, the error is logged and the last good plan stays
+ * in use.
+ */
+public class TemplateRegistry {
+    private static final String RESOURCE_DIR = "/com/example/siyam_2207031_cvbuilder/templates/";
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final long DEFAULT_RELOAD_INTERVAL_MS = 1000;
+
+    private static TemplateRegistry instance;
+
+    private final Path templateDir;
+    private final long reloadIntervalNanos;
+    private final Map<String, Entry> templates = new ConcurrentHashMap<>();
+
+    /**
+     * A compiled template and, for file templates, what it was compiled from
+     */
+    private record Entry(CVTemplate template, Path file, FileTime modified, long checkedAtNanos) {
+    }
+
+    private TemplateRegistry() {
+        String dir = System.getProperty("cvbuilder.templates.dir");
+        this.templateDir = dir != null && !dir.isBlank() ? Path.of(dir) : null;
+        this.reloadIntervalNanos = TimeUnit.MILLISECONDS.toNanos(
+            Long.getLong("cvbuilder.templates.reloadIntervalMs", DEFAULT_RELOAD_INTERVAL_MS));
+    }
+
+    public static synchronized TemplateRegistry getInstance() {
+        if (instance == null) {
+            instance = new TemplateRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * The compiled template for the id, compiling it on first use
+     */
+    public CVTemplate get(String id) {
+        Entry entry = templates.get(id);
+        if (entry == null) {
+            entry = templates.computeIfAbsent(id, this::load);
+        } else if (entry.file() != null && System.nanoTime() - entry.checkedAtNanos() >= reloadIntervalNanos) {
+            entry = templates.compute(id, (key, current) -> refresh(current));
+        }
+        return entry.template();
+    }
+
+    /**
+     * Compile and register a template from text, replacing any with the same id
+     */
+    public CVTemplate register(String id, String source) {
+        CVTemplate template = TemplateCompiler.compile(id, source);
+        templates.put(id, new Entry(template, null, null, 0));
+        return template;
+    }
+
+    /**
+     * Drop a cached template so the next lookup loads it again
+     */
+    public void reload(String id) {
+        templates.remove(id);
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+
+    private Entry load(String id) {
+        if (!VALID_ID.matcher(id).matches()) {
+            throw new IllegalArgumentException("Invalid template id: " + id);
+        }
+        try {
+            if (templateDir != null) {
+                Path file = templateDir.resolve(id + ".html");
+                if (Files.isRegularFile(file)) {
+                    FileTime modified = Files.getLastModifiedTime(file);
+                    CVTemplate template = TemplateCompiler.compile(id, Files.readString(file));
+                    return new Entry(template, file, modified, System.nanoTime());
+                }
+            }
+            try (InputStream in = TemplateRegistry.class.getResourceAsStream(RESOURCE_DIR + id + ".html")) {
+                if (in == null) {
+                    throw new IllegalArgumentException("Unknown template: " + id);
+                }
+                String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                return new Entry(TemplateCompiler.compile(id, source), null, null, 0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error loading template " + id, e);
+        }
+    }
+
+    private Entry refresh(Entry current) {
+        long now = System.nanoTime();
+        FileTime modified = current.modified();
+        try {
+            modified = Files.getLastModifiedTime(current.file());
+            if (modified.equals(current.modified())) {
+                return new Entry(current.template(), current.file(), modified, now);
+            }
+            CVTemplate template = TemplateCompiler.compile(current.template().getId(), Files.readString(current.file()));
+            System.out.println("Reloaded template " + current.file());
+            return new Entry(template, current.file(), modified, now);
+        } catch (IOException | IllegalArgumentException e) {
+            // Remember the broken version so it is reported once, not on every check
+            System.err.println("Error reloading template " + current.file() + ": " + e.getMessage());
+            return new Entry(current.template(), current.file(), modified, now);
+        }
+    }
+}
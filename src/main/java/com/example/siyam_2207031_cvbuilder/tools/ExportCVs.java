@@ -0,0 +1,38 @@
+package com.example.siyam_2207031_cvbuilder.tools;
+
+import com.example.siyam_2207031_cvbuilder.bulk.CVExporter;
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.database.DatabaseManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Command-line export of every CV to a JSON Lines file, gzip-compressed when
+ * the file name ends in .gz
+ * Point it at another database with -Dcvbuilder.db.url=jdbc:sqlite:path/to.db
+ *
+ * Usage: ExportCVs file [chunkSize]
+ */
+public class ExportCVs {
+
+    public static void main(String[] args) throws IOException, SQLException {
+        if (args.length < 1) {
+            System.err.println("Usage: ExportCVs file [chunkSize]");
+            System.exit(2);
+        }
+        Path file = Path.of(args[0]);
+
+        CVRepository repository = CVRepository.getInstance();
+        CVExporter exporter = new CVExporter(repository);
+        if (args.length > 1) {
+            exporter.setChunkSize(Integer.parseInt(args[1]));
+        }
+        CVExporter.ExportReport report = exporter.exportTo(file);
+        System.out.println("Exported to " + file + ": " + report);
+
+        repository.shutdown();
+        DatabaseManager.getInstance().closeConnection();
+    }
+}
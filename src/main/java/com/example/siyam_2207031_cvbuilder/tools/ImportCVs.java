@@ -0,0 +1,45 @@
+package com.example.siyam_2207031_cvbuilder.tools;
+
+import com.example.siyam_2207031_cvbuilder.bulk.CVImporter;
+import com.example.siyam_2207031_cvbuilder.bulk.ImportReport;
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.database.DatabaseManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Command-line bulk import of CVs from a JSON Lines (.jsonl) or CSV (.csv) file
+ * Point it at another database with -Dcvbuilder.db.url=jdbc:sqlite:path/to.db
+ *
+ * Usage: ImportCVs file [chunkSize]
+ */
+public class ImportCVs {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ImportCVs file [chunkSize]");
+            System.exit(2);
+        }
+        Path file = Path.of(args[0]);
+
+        CVRepository repository = CVRepository.getInstance();
+        CVImporter importer = new CVImporter(repository);
+        if (args.length > 1) {
+            importer.setChunkSize(Integer.parseInt(args[1]));
+        }
+        importer.setProgressListener(report -> System.out.println("  " + report));
+
+        ImportReport report = importer.importFile(file);
+        System.out.println("Imported " + file + ": " + report);
+        for (ImportReport.RecordError error : report.getErrors()) {
+            System.err.println("  " + error);
+        }
+        if (report.getFailed() > report.getErrors().size()) {
+            System.err.println("  ... and " + (report.getFailed() - report.getErrors().size()) + " more");
+        }
+
+        repository.shutdown();
+        DatabaseManager.getInstance().closeConnection();
+    }
+}
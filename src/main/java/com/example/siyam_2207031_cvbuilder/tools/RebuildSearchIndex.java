@@ -0,0 +1,23 @@
+package com.example.siyam_2207031_cvbuilder.tools;
+
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.database.DatabaseManager;
+
+import java.sql.SQLException;
+
+/**
+ * Command-line entry point that rebuilds the cv_search full-text index
+ * Point it at another database with -Dcvbuilder.db.url=jdbc:sqlite:path/to.db
+ */
+public class RebuildSearchIndex {
+
+    public static void main(String[] args) throws SQLException {
+        CVRepository repository = CVRepository.getInstance();
+        long start = System.nanoTime();
+        int indexed = repository.rebuildSearchIndex();
+        System.out.printf("Indexed %d CVs in %.1f ms%n", indexed, (System.nanoTime() - start) / 1e6);
+
+        repository.shutdown();
+        DatabaseManager.getInstance().closeConnection();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.siyam_2207031_cvbuilder.tools;
+
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.database.DatabaseManager;
+import com.example.siyam_2207031_cvbuilder.render.BatchRenderer;
+import com.example.siyam_2207031_cvbuilder.render.CVRenderer;
+import com.example.siyam_2207031_cvbuilder.render.HtmlRenderer;
+import com.example.siyam_2207031_cvbuilder.render.PdfRenderer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line batch render of every CV in the database to HTML and/or PDF
+ * Point it at another database with -Dcvbuilder.db.url=jdbc:sqlite:path/to.db
+ * HTML uses the named template from TemplateRegistry, "classic" by default
+ *
+ * Usage: RenderCVs outputDir [html|pdf|both] [threads] [template]
+ */
+public class RenderCVs {
+
+    public static void main(String[] args) throws IOException, SQLException {
+        if (args.length < 1) {
+            System.err.println("Usage: RenderCVs outputDir [html|pdf|both] [threads] [template]");
+            System.exit(2);
+        }
+        String formats = args.length > 1 ? args[1] : "both";
+        List<CVRenderer> renderers = new ArrayList<>();
+        if (!formats.equals("pdf")) {
+            renderers.add(new HtmlRenderer(args.length > 3 ? args[3] : HtmlRenderer.DEFAULT_TEMPLATE));
+        }
+        if (!formats.equals("html")) {
+            renderers.add(new PdfRenderer());
+        }
+        BatchRenderer batch = args.length > 2
+            ? new BatchRenderer(renderers, Integer.parseInt(args[2]))
+            : new BatchRenderer(renderers);
+
+        CVRepository repository = CVRepository.getInstance();
+        BatchRenderer.BatchReport report = batch.renderAll(repository, Path.of(args[0]));
+        System.out.println("Rendered to " + args[0] + ": " + report);
+        report.errors().stream().limit(20).forEach(error -> System.err.println("  " + error));
+
+        repository.shutdown();
+        DatabaseManager.getInstance().closeConnection();
+    }
+}
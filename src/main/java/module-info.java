@@ -3,6 +3,7 @@ module com.example.siyam_2207031_cvbuilder {
     requires javafx.fxml;
     requires transitive javafx.graphics;
     requires transitive java.sql;
+    requires java.desktop;
     requires org.xerial.sqlitejdbc;
 
     opens com.example.siyam_2207031_cvbuilder to javafx.fxml;
@@ -0,0 +1,112 @@
+package com.example.siyam_2207031_cvbuilder.benchmark;
+
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.database.DatabaseManager;
+import com.example.siyam_2207031_cvbuilder.database.RepositoryExecutors;
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Mixed findByIdAsync/saveAsync load against CVRepository on the fixed thread
+ * pool and on gated virtual threads, reporting throughput and latency
+ * percentiles (submission to completion). The virtual mode is skipped on
+ * runtimes older than Java 21. The hydrated CV cache is disabled so every read
+ * reaches SQLite. Runs against a scratch database, never the shipped cvbuilder.db.
+ *
+ * Usage: ExecutorBenchmark [operations] [writePercent] [seedCVs]
+ */
+public class ExecutorBenchmark {
+
+    public static void main(String[] args) throws IOException, SQLException {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int writePercent = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int seedCVs = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+        File dbFile = File.createTempFile("cvbuilder-bench", ".db");
+        dbFile.deleteOnExit();
+        System.setProperty("cvbuilder.db.url", "jdbc:sqlite:" + dbFile.getAbsolutePath());
+        System.setProperty("cvbuilder.cache.maxEntries", "0");
+
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        CVRepository repository = CVRepository.getInstance();
+        List<Long> ids = new ArrayList<>(seedCVs);
+        for (int i = 0; i < seedCVs; i++) {
+            ids.add(repository.save(newCV(i)));
+        }
+        System.out.printf("Reader connections: %d, operations: %d, writes: %d%%%n",
+            dbManager.getReaderPoolSize(), operations, writePercent);
+
+        for (RepositoryExecutors.Mode mode : RepositoryExecutors.Mode.values()) {
+            if (mode == RepositoryExecutors.Mode.VIRTUAL && !RepositoryExecutors.isVirtualThreadSupported()) {
+                System.out.printf("%-8s skipped: virtual threads need Java 21+ (running %d)%n",
+                    mode, Runtime.version().feature());
+                continue;
+            }
+            repository.setExecutor(RepositoryExecutors.create(mode, dbManager));
+            // Warm-up round, then the measured one
+            run(repository, ids, operations / 5, writePercent, new Random(7));
+            long[] latencies = new long[operations];
+            long start = System.nanoTime();
+            run(repository, ids, operations, writePercent, new Random(42), latencies);
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            System.out.printf("%-8s %8.0f ops/s  p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms%n",
+                mode, operations / (elapsed / 1e9),
+                latencies[operations / 2] / 1e6,
+                latencies[(int) (operations * 0.99)] / 1e6,
+                latencies[operations - 1] / 1e6);
+        }
+
+        repository.shutdown();
+        dbManager.closeConnection();
+    }
+
+    private static void run(CVRepository repository, List<Long> ids, int operations,
+                            int writePercent, Random random) {
+        run(repository, ids, operations, writePercent, random, new long[operations]);
+    }
+
+    /**
+     * Submit every operation at once and wait for all of them, recording each latency
+     */
+    private static void run(CVRepository repository, List<Long> ids, int operations,
+                            int writePercent, Random random, long[] latencies) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[operations];
+        for (int i = 0; i < operations; i++) {
+            int slot = i;
+            long submitted = System.nanoTime();
+            CompletableFuture<?> operation = random.nextInt(100) < writePercent
+                ? repository.saveAsync(newCV(i))
+                : repository.findByIdAsync(ids.get(random.nextInt(ids.size())));
+            futures[i] = operation.whenComplete((result, error) -> latencies[slot] = System.nanoTime() - submitted);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private static CVSnapshot newCV(int i) {
+        CVSnapshot.Education[] educations = new CVSnapshot.Education[2];
+        for (int j = 0; j < educations.length; j++) {
+            educations[j] = new CVSnapshot.Education(0, "University " + j, "BSc", "Computer Science", "20" + (10 + j));
+        }
+        CVSnapshot.Experience[] experiences = new CVSnapshot.Experience[3];
+        for (int j = 0; j < experiences.length; j++) {
+            experiences[j] = new CVSnapshot.Experience(0, "Company " + j, "Engineer", "2015", "2018", "Worked on systems");
+        }
+        CVSnapshot.Project[] projects = {new CVSnapshot.Project(0, "Project " + i, "A project", "Java, SQLite")};
+        String[] skills = new String[8];
+        for (int j = 0; j < skills.length; j++) {
+            skills[j] = "Skill " + j;
+        }
+        return new CVSnapshot(0, "Candidate " + i, "candidate" + i + "@example.com", "555-" + i, "Street " + i,
+            null, null, null, educations, experiences, projects, skills);
+    }
+}
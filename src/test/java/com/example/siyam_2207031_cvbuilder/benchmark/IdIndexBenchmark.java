@@ -0,0 +1,95 @@
+package com.example.siyam_2207031_cvbuilder.benchmark;
+
+import com.example.siyam_2207031_cvbuilder.controller.IdIndex;
+import com.example.siyam_2207031_cvbuilder.model.CVSummary;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Microbenchmark of update/delete reconciliation on a large observable list:
+ * the old linear findCVIndex scan versus IdIndex lookups, including after a sort.
+ * Needs only javafx.base, so it runs without starting the FX toolkit.
+ *
+ * Usage: IdIndexBenchmark [rows]
+ */
+public class IdIndexBenchmark {
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int linearOps = Math.min(rows, 2_000);
+        Random random = new Random(42);
+
+        ObservableList<CVSummary> list = newList(rows);
+        long start = System.nanoTime();
+        for (int i = 0; i < linearOps; i++) {
+            long id = 1 + random.nextInt(rows);
+            int index = linearIndexOf(list, id);
+            list.set(index, rename(list.get(index)));
+        }
+        double linearPerOp = (System.nanoTime() - start) / (double) linearOps;
+
+        list = newList(rows);
+        IdIndex<CVSummary> index = new IdIndex<>(list, CVSummary::id);
+        start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            long id = 1 + random.nextInt(rows);
+            int position = index.indexOf(id);
+            list.set(position, rename(list.get(position)));
+        }
+        double indexedPerOp = (System.nanoTime() - start) / (double) rows;
+
+        // Sort by name (a permutation), then update every row in random order
+        list.sort(Comparator.comparing(CVSummary::fullName));
+        start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            long id = 1 + random.nextInt(rows);
+            int position = index.indexOf(id);
+            list.set(position, rename(list.get(position)));
+        }
+        double sortedPerOp = (System.nanoTime() - start) / (double) rows;
+
+        // Delete 10% of rows, newest first as the list is displayed
+        int deletes = rows / 10;
+        start = System.nanoTime();
+        for (int i = 0; i < deletes; i++) {
+            int position = index.indexOf(rows - i * 10L);
+            if (position >= 0) {
+                list.remove(position);
+            }
+        }
+        double deletePerOp = (System.nanoTime() - start) / (double) deletes;
+
+        System.out.printf("Rows: %d%n", rows);
+        System.out.printf("Linear scan update:     %10.1f ns/op (%d ops, est. %.1f s for %d)%n",
+            linearPerOp, linearOps, linearPerOp * rows / 1e9, rows);
+        System.out.printf("IdIndex update:         %10.1f ns/op%n", indexedPerOp);
+        System.out.printf("IdIndex after sort:     %10.1f ns/op%n", sortedPerOp);
+        System.out.printf("IdIndex delete:         %10.1f ns/op (%d ops)%n", deletePerOp, deletes);
+    }
+
+    private static ObservableList<CVSummary> newList(int rows) {
+        List<CVSummary> summaries = new ArrayList<>(rows);
+        for (int i = rows; i >= 1; i--) {
+            summaries.add(new CVSummary(i, "Candidate " + (i * 7919L % rows), "c" + i + "@example.com", "555-" + i, null));
+        }
+        return FXCollections.observableArrayList(summaries);
+    }
+
+    private static CVSummary rename(CVSummary summary) {
+        return new CVSummary(summary.id(), summary.fullName(), summary.email(), "556-" + summary.id(), summary.createdAt());
+    }
+
+    private static int linearIndexOf(List<CVSummary> list, long id) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).id() == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
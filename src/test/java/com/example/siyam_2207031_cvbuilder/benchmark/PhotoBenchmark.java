@@ -0,0 +1,126 @@
+package com.example.siyam_2207031_cvbuilder.benchmark;
+
+import com.example.siyam_2207031_cvbuilder.photo.PhotoStore;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Decode and thumbnail throughput of the photo store. Writes synthetic JPEG
+ * photos to a scratch directory, then measures:
+ *   import     - hashing and copying into the store, with a quarter of the
+ *                photos imported twice to exercise deduplication
+ *   full decode - ImageIO.read of every photo on one thread, as a naive
+ *                thumbnail would start
+ *   thumbnails - cold thumbnails generated in parallel by the store's pool
+ *   cached     - thumbnail lookups served from the cache
+ * Runs headless.
+ *
+ * Usage: PhotoBenchmark [photos] [width] [height] [threads]
+ */
+public class PhotoBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int photos = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+        int width = args.length > 1 ? Integer.parseInt(args[1]) : 3000;
+        int height = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        Path scratch = Files.createTempDirectory("cvbuilder-photos");
+        try {
+            List<Path> sources = writePhotos(scratch.resolve("source"), photos, width, height);
+            long sourceBytes = 0;
+            for (Path source : sources) {
+                sourceBytes += Files.size(source);
+            }
+            System.out.printf("%d photos of %dx%d, %.1f MB of JPEG, %d thumbnail threads%n",
+                photos, width, height, sourceBytes / 1e6, threads);
+
+            PhotoStore store = new PhotoStore(scratch.resolve("store"), 64L * 1024 * 1024, threads);
+            List<String> ids = new ArrayList<>();
+            long start = System.nanoTime();
+            for (Path source : sources) {
+                ids.add(store.importPhoto(source));
+            }
+            for (Path source : sources.subList(0, photos / 4)) {
+                store.importPhoto(source);
+            }
+            long importNanos = System.nanoTime() - start;
+            // Imports queue the default thumbnails; let them finish before timing decodes
+            store.prefetch(ids, PhotoStore.DEFAULT_THUMBNAIL_SIZE).join();
+            report("import", photos + photos / 4, importNanos);
+            System.out.println("  " + store.getStats());
+
+            start = System.nanoTime();
+            for (Path source : sources) {
+                BufferedImage image = ImageIO.read(source.toFile());
+                if (image.getWidth() != width) {
+                    throw new IllegalStateException("Unexpected width " + image.getWidth());
+                }
+            }
+            report("full decode", photos, System.nanoTime() - start);
+
+            for (int size : new int[]{64, PhotoStore.DEFAULT_THUMBNAIL_SIZE, 512}) {
+                store.clearCache();
+                start = System.nanoTime();
+                store.prefetch(ids, size).join();
+                report("thumbnails " + size + "px", photos, System.nanoTime() - start);
+            }
+
+            int lookups = 1_000_000;
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                store.thumbnail(ids.get(i % photos), 512).join();
+            }
+            report("cached", lookups, System.nanoTime() - start);
+            System.out.println("  " + store.getStats());
+            store.shutdown();
+        } finally {
+            try (Stream<Path> files = Files.walk(scratch)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void report(String stage, int count, long nanos) {
+        System.out.printf("%-16s %9d in %8.1f ms, %12.1f per second%n",
+            stage, count, nanos / 1e6, count / (nanos / 1e9));
+    }
+
+    /**
+     * Photo-like JPEGs: a gradient with random ellipses, so they compress like real images
+     */
+    private static List<Path> writePhotos(Path dir, int photos, int width, int height) throws IOException {
+        Files.createDirectories(dir);
+        Random random = new Random(42);
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < photos; i++) {
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = image.createGraphics();
+            g.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)),
+                width, height, new Color(random.nextInt(0xFFFFFF))));
+            g.fillRect(0, 0, width, height);
+            for (int shape = 0; shape < 200; shape++) {
+                g.setColor(new Color(random.nextInt(0xFFFFFF)));
+                g.fillOval(random.nextInt(width), random.nextInt(height), 20 + random.nextInt(width / 5),
+                    20 + random.nextInt(height / 5));
+            }
+            g.dispose();
+            Path path = dir.resolve("photo-" + i + ".jpg");
+            ImageIO.write(image, "jpg", path.toFile());
+            paths.add(path);
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.siyam_2207031_cvbuilder.benchmark;
+
+import com.example.siyam_2207031_cvbuilder.controller.CVPreviewController;
+import com.example.siyam_2207031_cvbuilder.model.CV;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Separator;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Open and scroll cost of the preview screen as a CV grows. For each CV size,
+ * each round fills the preview and times the fill, root.applyCss() (the CSS
+ * pass) and root.layout(), then jumps to the middle of the CV and times the
+ * CSS and layout pass again, in three modes:
+ *   eager    - every entry built up front in a ScrollPane, with a setStyle
+ *              string per label, as the preview used to be
+ *   virtual  - a fresh preview controller; its ListView only builds the rows
+ *              on screen
+ *   reused   - one preview controller reset and reloaded, reusing its cells
+ * Needs a display for the JavaFX toolkit.
+ *
+ * Usage: PreviewBenchmark [entriesPerSection,...] [rounds]
+ */
+public class PreviewBenchmark {
+    private static final String PREVIEW_FXML = "/com/example/siyam_2207031_cvbuilder/fxml/cvPreview.fxml";
+    private static final String STYLESHEET = "/com/example/siyam_2207031_cvbuilder/css/styles.css";
+    private static final double WIDTH = 1000;
+    private static final double HEIGHT = 800;
+
+    private static final String NAME = "-fx-font-size: 32; -fx-font-weight: bold; -fx-text-fill: #2C3E50;";
+    private static final String HEADING = "-fx-font-size: 14; -fx-font-weight: bold; -fx-text-fill: #2C3E50;";
+    private static final String TITLE = "-fx-font-size: 12; -fx-font-weight: bold; -fx-text-fill: #2C3E50;";
+    private static final String ACCENT = "-fx-font-size: 11; -fx-text-fill: #3498DB;";
+    private static final String ACCENT_BOLD = "-fx-font-size: 11; -fx-text-fill: #3498DB; -fx-font-weight: bold;";
+    private static final String SMALL_ACCENT_BOLD = "-fx-font-size: 10; -fx-text-fill: #3498DB; -fx-font-weight: bold;";
+    private static final String META = "-fx-font-size: 10; -fx-text-fill: #7F8C8D; -fx-font-style: italic;";
+    private static final String TEXT = "-fx-font-size: 11; -fx-text-fill: #34495E;";
+
+    /**
+     * A filled preview, how to scroll it to the middle, and the time spent filling it
+     */
+    private record Filled(Parent root, Runnable scrollToMiddle, long buildNanos) {
+    }
+
+    private interface Round {
+        Filled fill(CV cv) throws IOException;
+    }
+
+    public static void main(String[] args) {
+        String[] sizes = (args.length > 0 ? args[0] : "10,100,1000").split(",");
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Platform.startup(() -> { });
+        System.out.printf("%d rounds per size (first %d are warm-up)%n", rounds, rounds / 4);
+        CompletableFuture.runAsync(() -> {
+            try {
+                FXMLLoader loader = new FXMLLoader(PreviewBenchmark.class.getResource(PREVIEW_FXML));
+                Parent reusedRoot = loader.load();
+                new Scene(reusedRoot, WIDTH, HEIGHT);
+                CVPreviewController reused = loader.getController();
+
+                for (String size : sizes) {
+                    CV cv = newCV(Integer.parseInt(size.trim()));
+                    System.out.printf("%n%s entries per section%n", size.trim());
+                    measure("eager", rounds, cv, PreviewBenchmark::fillEager);
+                    measure("virtual", rounds, cv, PreviewBenchmark::fillVirtual);
+                    measure("reused", rounds, cv, c -> {
+                        long start = System.nanoTime();
+                        reused.reset();
+                        reused.loadCV(c);
+                        return new Filled(reusedRoot, middleOf(reusedRoot), System.nanoTime() - start);
+                    });
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, Platform::runLater).join();
+        Platform.exit();
+    }
+
+    private static void measure(String mode, int rounds, CV cv, Round round) throws IOException {
+        int warmup = rounds / 4;
+        long open = 0;
+        long scroll = 0;
+        int nodes = 0;
+        for (int i = 0; i < rounds; i++) {
+            Filled filled = round.fill(cv);
+            Parent root = filled.root();
+
+            long start = System.nanoTime();
+            root.applyCss();
+            root.resize(WIDTH, HEIGHT);
+            root.layout();
+            long openNanos = filled.buildNanos() + System.nanoTime() - start;
+
+            start = System.nanoTime();
+            filled.scrollToMiddle().run();
+            root.applyCss();
+            root.layout();
+            long scrollNanos = System.nanoTime() - start;
+
+            if (i >= warmup) {
+                open += openNanos;
+                scroll += scrollNanos;
+                nodes = countNodes(root);
+            }
+        }
+        int measured = rounds - warmup;
+        System.out.printf("  %-8s open %8.2f ms, scroll %7.2f ms (%d nodes)%n", mode,
+            open / 1e6 / measured, scroll / 1e6 / measured, nodes);
+    }
+
+    private static Filled fillVirtual(CV cv) throws IOException {
+        FXMLLoader loader = new FXMLLoader(PreviewBenchmark.class.getResource(PREVIEW_FXML));
+        Parent root = loader.load();
+        new Scene(root, WIDTH, HEIGHT);
+        CVPreviewController controller = loader.getController();
+        long start = System.nanoTime();
+        controller.loadCV(cv);
+        return new Filled(root, middleOf(root), System.nanoTime() - start);
+    }
+
+    private static Runnable middleOf(Parent root) {
+        ListView<?> list = (ListView<?>) root.lookup(".cv-preview-list");
+        return () -> list.scrollTo(list.getItems().size() / 2);
+    }
+
+    /**
+     * The preview as it was before virtualization: one VBox per section with a
+     * node tree per entry, all inside a ScrollPane
+     */
+    private static Filled fillEager(CV cv) {
+        long start = System.nanoTime();
+        VBox container = new VBox();
+        container.setStyle("-fx-background-color: white; -fx-padding: 40;");
+
+        VBox header = new VBox(5, label(cv.getFullName(), NAME, false), new HBox(20,
+            label("✉ " + cv.getEmail(), TEXT, false),
+            label("☎ " + cv.getPhoneNumber(), TEXT, false),
+            label("📍 " + cv.getAddress(), TEXT, false)));
+        header.setPadding(new Insets(0, 0, 20, 0));
+        container.getChildren().addAll(header, new Separator());
+
+        VBox experiences = section(container, "WORK EXPERIENCE", 15);
+        for (CV.Experience experience : cv.getExperiences()) {
+            experiences.getChildren().add(entry(
+                label(experience.getPosition(), TITLE, false),
+                label(experience.getCompany(), ACCENT_BOLD, false),
+                label(experience.getStartDate() + " - " + experience.getEndDate(), META, false),
+                label(experience.getDescription(), TEXT, true)));
+        }
+        VBox educations = section(container, "EDUCATION", 15);
+        for (CV.Education education : cv.getEducations()) {
+            educations.getChildren().add(entry(
+                label(education.getInstitution(), TITLE, false),
+                label(education.getDegree() + " in " + education.getFieldOfStudy(), ACCENT, false),
+                label("Graduation: " + education.getGraduationYear(), META, false)));
+        }
+        VBox skills = section(container, "SKILLS", 5);
+        for (String skill : cv.getSkills()) {
+            skills.getChildren().add(label("• " + skill, TEXT, false));
+        }
+        VBox projects = section(container, "PROJECTS", 15);
+        for (CV.Project project : cv.getProjects()) {
+            projects.getChildren().add(entry(
+                label(project.getTitle(), TITLE, false),
+                label("Technologies: " + project.getTechnologies(), SMALL_ACCENT_BOLD, false),
+                label(project.getDescription(), TEXT, true)));
+        }
+
+        ScrollPane scrollPane = new ScrollPane(container);
+        scrollPane.setFitToWidth(true);
+        long buildNanos = System.nanoTime() - start;
+        Scene scene = new Scene(scrollPane, WIDTH, HEIGHT);
+        scene.getStylesheets().add(PreviewBenchmark.class.getResource(STYLESHEET).toExternalForm());
+        return new Filled(scrollPane, () -> scrollPane.setVvalue(0.5), buildNanos);
+    }
+
+    private static VBox section(VBox container, String title, double spacing) {
+        VBox entries = new VBox(spacing);
+        VBox section = new VBox(10, label(title, HEADING, false), entries);
+        section.setPadding(new Insets(20, 0, 20, 0));
+        container.getChildren().add(section);
+        return entries;
+    }
+
+    private static VBox entry(Label... labels) {
+        VBox entry = new VBox(3);
+        entry.setPadding(new Insets(10, 0, 10, 0));
+        entry.getChildren().addAll(labels);
+        return entry;
+    }
+
+    private static Label label(String text, String style, boolean wrap) {
+        Label label = new Label(text);
+        label.setStyle(style);
+        label.setWrapText(wrap);
+        return label;
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private static CV newCV(int entries) {
+        CV cv = new CV();
+        cv.setFullName("Benchmark Candidate");
+        cv.setEmail("candidate@example.com");
+        cv.setPhoneNumber("555-0100");
+        cv.setAddress("1 Example Street");
+        for (int i = 0; i < entries; i++) {
+            cv.getExperiences().add(new CV.Experience("Company " + i, "Position " + i, "2020", "2021",
+                "Worked on project number " + i + " delivering features, fixing defects and reviewing code across several teams."));
+            cv.getEducations().add(new CV.Education("University " + i, "BSc", "Computer Science", "2019"));
+            cv.getProjects().add(new CV.Project("Publication " + i,
+                "A long description of publication " + i + " that wraps over more than one line in the preview.", "Java, SQL"));
+            cv.getSkills().add("Skill " + i);
+        }
+        return cv;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.siyam_2207031_cvbuilder.benchmark;
+
+import com.example.siyam_2207031_cvbuilder.database.CVRepository;
+import com.example.siyam_2207031_cvbuilder.database.DatabaseManager;
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Compares per-CV hydration (one findById per row, the old N+1 shape) with the
+ * set-based loader behind findAll, reporting query count and wall time.
+ * Runs against a scratch database, never the shipped cvbuilder.db.
+ *
+ * Usage: RepositoryLoadBenchmark [cvCount]
+ */
+public class RepositoryLoadBenchmark {
+
+    public static void main(String[] args) throws IOException, SQLException {
+        int cvCount = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+
+        File dbFile = File.createTempFile("cvbuilder-bench", ".db");
+        dbFile.deleteOnExit();
+        System.setProperty("cvbuilder.db.url", "jdbc:sqlite:" + dbFile.getAbsolutePath());
+        // Measure the queries themselves, not the hydrated CV cache
+        System.setProperty("cvbuilder.cache.maxEntries", "0");
+
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        CVRepository repository = CVRepository.getInstance();
+        seed(dbManager, cvCount);
+
+        // Warm up both paths once before measuring
+        List<CVSnapshot> cvs = repository.findAll();
+        for (CVSnapshot cv : cvs) {
+            repository.findById(cv.id());
+        }
+
+        long queriesBefore = dbManager.getQueryCount();
+        long start = System.nanoTime();
+        for (CVSnapshot cv : cvs) {
+            repository.findById(cv.id());
+        }
+        long perRowNanos = System.nanoTime() - start;
+        long perRowQueries = dbManager.getQueryCount() - queriesBefore;
+
+        queriesBefore = dbManager.getQueryCount();
+        start = System.nanoTime();
+        List<CVSnapshot> loaded = repository.findAll();
+        long bulkNanos = System.nanoTime() - start;
+        long bulkQueries = dbManager.getQueryCount() - queriesBefore;
+
+        System.out.printf("CVs: %d%n", loaded.size());
+        System.out.printf("Per-row hydration: %6d queries, %8.1f ms%n", perRowQueries, perRowNanos / 1e6);
+        System.out.printf("Set-based findAll: %6d queries, %8.1f ms%n", bulkQueries, bulkNanos / 1e6);
+        System.out.printf("Statement cache: %d hits, %d misses, %d evictions%n",
+            dbManager.getStatementCacheHits(), dbManager.getStatementCacheMisses(),
+            dbManager.getStatementCacheEvictions());
+
+        repository.shutdown();
+        dbManager.closeConnection();
+    }
+
+    private static void seed(DatabaseManager dbManager, int cvCount) throws SQLException {
+        dbManager.beginTransaction();
+        try {
+            for (int i = 0; i < cvCount; i++) {
+                long cvId = dbManager.executeInsert(
+                    "INSERT INTO cv (full_name, email, phone_number, address) VALUES (?, ?, ?, ?)",
+                    "Candidate " + i, "candidate" + i + "@example.com", "555-" + i, "Street " + i);
+                for (int j = 0; j < 2; j++) {
+                    dbManager.executeUpdate(
+                        "INSERT INTO education (cv_id, institution, degree, field_of_study, graduation_year) VALUES (?, ?, ?, ?, ?)",
+                        cvId, "University " + j, "BSc", "Computer Science", "20" + (10 + j));
+                }
+                for (int j = 0; j < 3; j++) {
+                    dbManager.executeUpdate(
+                        "INSERT INTO experience (cv_id, company, position, start_date, end_date, description) VALUES (?, ?, ?, ?, ?, ?)",
+                        cvId, "Company " + j, "Engineer", "2015", "2018", "Worked on systems");
+                }
+                dbManager.executeUpdate(
+                    "INSERT INTO project (cv_id, title, description, technologies) VALUES (?, ?, ?, ?)",
+                    cvId, "Project " + i, "A project", "Java, SQLite");
+                for (int j = 0; j < 8; j++) {
+                    dbManager.executeUpdate("INSERT INTO skill (cv_id, skill_name) VALUES (?, ?)", cvId, "Skill " + j);
+                }
+            }
+            dbManager.commitTransaction();
+        } catch (SQLException e) {
+            dbManager.rollbackTransaction();
+            throw e;
+        }
+    }
+}
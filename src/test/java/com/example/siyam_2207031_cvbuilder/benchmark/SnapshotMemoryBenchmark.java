@@ -0,0 +1,101 @@
+package com.example.siyam_2207031_cvbuilder.benchmark;
+
+import com.example.siyam_2207031_cvbuilder.model.CV;
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+
+/**
+ * Retained heap of many CVs held as observable CV objects versus as CVSnapshot
+ * records with the same content, measured as used heap after a forced GC, plus
+ * the cost of converting between the two. Every CV gets its own strings, so the
+ * character data is counted in both forms. Needs only javafx.base, so it runs
+ * without starting the FX toolkit; give it enough heap, e.g. -Xmx2g.
+ *
+ * Usage: SnapshotMemoryBenchmark [cvs]
+ */
+public class SnapshotMemoryBenchmark {
+    // Keeps the measured CVs reachable while the heap is sampled
+    private static Object[] retained;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        long baseline = usedHeap();
+        CVSnapshot[] snapshots = new CVSnapshot[count];
+        retained = snapshots;
+        for (int i = 0; i < count; i++) {
+            snapshots[i] = newSnapshot(i);
+        }
+        long snapshotBytes = usedHeap() - baseline;
+        report("CVSnapshot", count, snapshotBytes);
+        retained = null;
+        snapshots = null;
+
+        baseline = usedHeap();
+        CV[] cvs = new CV[count];
+        retained = cvs;
+        for (int i = 0; i < count; i++) {
+            cvs[i] = CV.fromSnapshot(newSnapshot(i));
+        }
+        long cvBytes = usedHeap() - baseline;
+        report("CV", count, cvBytes);
+        System.out.printf("Snapshots take %.1f%% of the observable CVs' heap%n", 100.0 * snapshotBytes / cvBytes);
+
+        long start = System.nanoTime();
+        snapshots = new CVSnapshot[count];
+        for (int i = 0; i < count; i++) {
+            snapshots[i] = cvs[i].toSnapshot();
+        }
+        long toSnapshotNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            cvs[i] = CV.fromSnapshot(snapshots[i]);
+        }
+        long fromSnapshotNanos = System.nanoTime() - start;
+        System.out.printf("toSnapshot   %8.2f us per CV%n", toSnapshotNanos / 1e3 / count);
+        System.out.printf("fromSnapshot %8.2f us per CV%n", fromSnapshotNanos / 1e3 / count);
+        if (!cvs[count - 1].toSnapshot().equals(snapshots[count - 1])) {
+            throw new IllegalStateException("Round trip changed the CV");
+        }
+    }
+
+    private static void report(String form, int count, long bytes) {
+        System.out.printf("%-10s %8d CVs %9.1f MB %8.0f bytes per CV%n",
+            form, count, bytes / 1e6, bytes / (double) count);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * A typical CV: two educations, three experiences, one project and eight skills
+     */
+    private static CVSnapshot newSnapshot(int i) {
+        CVSnapshot.Education[] educations = new CVSnapshot.Education[2];
+        for (int j = 0; j < educations.length; j++) {
+            educations[j] = new CVSnapshot.Education(i * 10L + j, "University " + j, "BSc", "Computer Science " + i,
+                "20" + (10 + j));
+        }
+        CVSnapshot.Experience[] experiences = new CVSnapshot.Experience[3];
+        for (int j = 0; j < experiences.length; j++) {
+            experiences[j] = new CVSnapshot.Experience(i * 10L + j, "Company " + j, "Engineer " + i, "2015", "2018",
+                "Worked on systems for customer " + i);
+        }
+        CVSnapshot.Project[] projects = {new CVSnapshot.Project(i, "Project " + i, "A project", "Java, SQLite")};
+        String[] skills = new String[8];
+        for (int j = 0; j < skills.length; j++) {
+            skills[j] = "Skill " + j + "-" + i;
+        }
+        return new CVSnapshot(i + 1, "Candidate " + i, "candidate" + i + "@example.com", "555-" + i,
+            "Street " + i, null, null, null, educations, experiences, projects, skills);
+    }
+}
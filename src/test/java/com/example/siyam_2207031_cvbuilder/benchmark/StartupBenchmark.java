@@ -0,0 +1,102 @@
+package com.example.siyam_2207031_cvbuilder.benchmark;
+
+import com.example.siyam_2207031_cvbuilder.Launcher;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Time-to-first-frame of the application. Starts the app in a fresh JVM per
+ * run with -Dcvbuilder.startup.exitAfterFirstFrame=true and reports, per run,
+ * the first-frame time the app logs (measured from process launch), the time
+ * until its background database bootstrap was done, and the wall time until
+ * the process exited. Extra JVM options are passed to every run, e.g.
+ * -XX:SharedArchiveFile=target/cv-builder.jsa to compare with and without the
+ * AppCDS archive. Needs a display. Runs against a scratch database.
+ *
+ * Usage: StartupBenchmark [runs] [jvmOption...]
+ */
+public class StartupBenchmark {
+    private static final Pattern FIRST_FRAME = Pattern.compile("Startup: first frame (\\d+) ms after launch");
+    private static final Pattern DATABASE_READY = Pattern.compile("Startup: database ready in (\\d+) ms");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        List<String> jvmOptions = args.length > 1 ? Arrays.asList(args).subList(1, args.length) : List.of();
+
+        File dbFile = File.createTempFile("cvbuilder-startup", ".db");
+        dbFile.deleteOnExit();
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-Dcvbuilder.startup.exitAfterFirstFrame=true");
+        command.add("-Dcvbuilder.db.url=jdbc:sqlite:" + dbFile.getAbsolutePath());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(Launcher.class.getName());
+        System.out.println("Command: " + String.join(" ", command));
+
+        long[] firstFrame = new long[runs];
+        long[] databaseReady = new long[runs];
+        long[] exited = new long[runs];
+        // One untimed run first, so the scratch database exists and the OS file cache is warm
+        for (int run = -1; run < runs; run++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            List<String> output = new ArrayList<>();
+            long frameMillis = -1;
+            long databaseMillis = -1;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    output.add(line);
+                    Matcher frame = FIRST_FRAME.matcher(line);
+                    if (frame.find()) {
+                        frameMillis = Long.parseLong(frame.group(1));
+                    }
+                    Matcher database = DATABASE_READY.matcher(line);
+                    if (database.find()) {
+                        databaseMillis = Long.parseLong(database.group(1));
+                    }
+                }
+            }
+            int exitCode = process.waitFor();
+            long exitMillis = (System.nanoTime() - start) / 1_000_000;
+            if (exitCode != 0 || frameMillis < 0) {
+                System.err.println("Run failed (exit code " + exitCode + "), output:");
+                output.stream().skip(Math.max(0, output.size() - 20)).forEach(l -> System.err.println("  " + l));
+                System.exit(1);
+            }
+            if (run >= 0) {
+                firstFrame[run] = frameMillis;
+                databaseReady[run] = databaseMillis;
+                exited[run] = exitMillis;
+                System.out.printf("Run %2d: first frame %5d ms, database ready %5d ms, exited after %5d ms%n",
+                    run + 1, frameMillis, databaseMillis, exitMillis);
+            }
+        }
+
+        System.out.println();
+        report("First frame", firstFrame);
+        report("Database ready", databaseReady);
+        report("Process exit", exited);
+    }
+
+    private static void report(String label, long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-15s min %5d ms, median %5d ms, max %5d ms%n",
+            label, sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+import com.example.siyam_2207031_cvbuilder.model.CVSummary;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CVRepository against the scratch database configured for the test run
+ * Every test works on CVs it creates itself, so rows left by earlier runs do not matter.
+ */
+class CVRepositoryTest {
+    private final CVRepository repository = CVRepository.getInstance();
+
+    @Test
+    void updateKeepsTheEditedOrderOfChildEntries() throws SQLException {
+        long id = repository.save(newCV("Order", "U1", "U2", "U3"));
+        CVSnapshot stored = reload(id);
+
+        // Drop the first entry, insert a new one in the middle, keep the last
+        CVSnapshot.Education[] stored3 = stored.educations();
+        CVSnapshot edited = withEntries(stored,
+            new CVSnapshot.Education[]{stored3[1], education("U0"), stored3[2]},
+            new CVSnapshot.Experience[]{experience("C0"), stored.experiences()[0]},
+            new CVSnapshot.Project[]{project("P2"), project("P1")},
+            new String[]{"sql", "java", "kotlin"});
+        repository.update(edited);
+
+        CVSnapshot reloaded = reload(id);
+        assertEquals(Arrays.asList("U2", "U0", "U3"),
+            Arrays.stream(reloaded.educations()).map(CVSnapshot.Education::institution).toList());
+        assertEquals(Arrays.asList("C0", "C1"),
+            Arrays.stream(reloaded.experiences()).map(CVSnapshot.Experience::company).toList());
+        assertEquals(Arrays.asList("P2", "P1"),
+            Arrays.stream(reloaded.projects()).map(CVSnapshot.Project::title).toList());
+        assertArrayEquals(new String[]{"sql", "java", "kotlin"}, reloaded.skills());
+    }
+
+    @Test
+    void unchangedUpdateKeepsEveryChildRow() throws SQLException {
+        long id = repository.save(newCV("Unchanged", "U1", "U2"));
+        CVSnapshot stored = reload(id);
+
+        repository.update(stored);
+
+        CVSnapshot reloaded = reload(id);
+        assertArrayEquals(stored.educations(), reloaded.educations());
+        assertArrayEquals(stored.experiences(), reloaded.experiences());
+        assertArrayEquals(stored.projects(), reloaded.projects());
+        assertArrayEquals(stored.skills(), reloaded.skills());
+    }
+
+    @Test
+    void shorterListsDeleteTheSurplusRows() throws SQLException {
+        long id = repository.save(newCV("Shorter", "U1", "U2", "U3"));
+        CVSnapshot stored = reload(id);
+
+        repository.update(withEntries(stored, new CVSnapshot.Education[]{stored.educations()[2]},
+            stored.experiences(), null, new String[]{"java"}));
+
+        CVSnapshot reloaded = reload(id);
+        assertEquals(1, reloaded.educations().length);
+        assertEquals("U3", reloaded.educations()[0].institution());
+        assertEquals(0, reloaded.projects().length);
+        assertArrayEquals(new String[]{"java"}, reloaded.skills());
+    }
+
+    @Test
+    void keysetPagesWalkEveryCVOnceNewestFirst() throws SQLException {
+        List<Long> saved = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            saved.add(repository.save(newCV("Paged " + i, "U1")));
+        }
+
+        List<CVSummary> walked = new ArrayList<>();
+        List<CVSummary> page = repository.findPage(null, 0, 5);
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            if (walked.size() == 5) {
+                // Rows added mid-walk sort before the cursor and must not show up again
+                repository.save(newCV("Paged late", "U1"));
+            }
+            CVSummary last = page.get(page.size() - 1);
+            page = repository.findPage(last.createdAt(), last.id(), 5);
+        }
+
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < walked.size(); i++) {
+            CVSummary row = walked.get(i);
+            assertTrue(seen.add(row.id()), "CV " + row.id() + " returned twice");
+            if (i > 0) {
+                CVSummary previous = walked.get(i - 1);
+                int byTime = previous.createdAt().compareTo(row.createdAt());
+                assertTrue(byTime > 0 || byTime == 0 && previous.id() > row.id(), "Pages out of order at " + i);
+            }
+        }
+        assertTrue(seen.containsAll(saved));
+    }
+
+    private CVSnapshot reload(long id) throws SQLException {
+        repository.clearCache();
+        return repository.findById(id);
+    }
+
+    static CVSnapshot newCV(String name, String... institutions) {
+        CVSnapshot.Education[] educations = Arrays.stream(institutions)
+            .map(CVRepositoryTest::education)
+            .toArray(CVSnapshot.Education[]::new);
+        return new CVSnapshot(0, name, name.toLowerCase() + "@example.com", "555-0100", "1 Test Street",
+            null, null, null, educations, new CVSnapshot.Experience[]{experience("C1")},
+            new CVSnapshot.Project[]{project("P1")}, new String[]{"java", "sql"});
+    }
+
+    private static CVSnapshot withEntries(CVSnapshot cv, CVSnapshot.Education[] educations,
+                                          CVSnapshot.Experience[] experiences, CVSnapshot.Project[] projects,
+                                          String[] skills) {
+        return new CVSnapshot(cv.id(), cv.fullName(), cv.email(), cv.phoneNumber(), cv.address(),
+            cv.profilePhoto(), cv.createdAt(), cv.updatedAt(), educations, experiences, projects, skills);
+    }
+
+    private static CVSnapshot.Education education(String institution) {
+        return new CVSnapshot.Education(0, institution, "BSc", "Computer Science", "2020");
+    }
+
+    private static CVSnapshot.Experience experience(String company) {
+        return new CVSnapshot.Experience(0, company, "Engineer", "2020", "2022", "Built things");
+    }
+
+    private static CVSnapshot.Project project(String title) {
+        return new CVSnapshot.Project(0, title, "A project", "Java");
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+import com.example.siyam_2207031_cvbuilder.model.CVSummary;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Full-text queries built from free text, and searches with text that is not valid FTS5 syntax
+ */
+class SearchIndexTest {
+
+    @Test
+    void plainQueryQuotesEveryWordAsAPrefix() {
+        assertEquals("\"kafka\"* \"berlin\"*", SearchIndex.plainQuery("  kafka   berlin "));
+        assertEquals("\"C++\"*", SearchIndex.plainQuery("C++"));
+    }
+
+    @Test
+    void plainQueryDoublesQuotes() {
+        assertEquals("\"O'Brien\"\"\"*", SearchIndex.plainQuery("O'Brien\""));
+        assertEquals("\"\"\"\"\"\"*", SearchIndex.plainQuery("\"\""));
+    }
+
+    @Test
+    void plainQueryOfBlankTextIsEmpty() {
+        assertEquals("", SearchIndex.plainQuery("   "));
+    }
+
+    @Test
+    void malformedQueriesSearchAsPlainWords() throws SQLException {
+        CVRepository repository = CVRepository.getInstance();
+        CVSnapshot cv = CVRepositoryTest.newCV("Siobhan O'Brien", "Trinity College");
+        long id = repository.save(cv);
+
+        List<CVSummary> found = repository.searchFullText("O'Brien\"", 50);
+        assertTrue(found.stream().anyMatch(summary -> summary.id() == id));
+
+        for (String text : new String[]{"C++", "-", "\"", "AND", "NEAR(", "foo:bar", "a-b"}) {
+            assertDoesNotThrow(() -> repository.searchFullText(text, 10), text);
+        }
+    }
+
+    @Test
+    void validQueriesKeepTheirSyntax() throws SQLException {
+        CVRepository repository = CVRepository.getInstance();
+        long id = repository.save(CVRepositoryTest.newCV("Quinta Syntaxcheck", "Uppsala"));
+
+        List<CVSummary> found = repository.searchFullText("full_name:syntaxch* AND uppsala", 10);
+        assertTrue(found.stream().anyMatch(summary -> summary.id() == id));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.siyam_2207031_cvbuilder.database;
+
+import com.example.siyam_2207031_cvbuilder.model.CVSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * WriteBehindQueue with an in-memory writer, so no database is involved
+ */
+class WriteBehindQueueTest {
+    // Groups as the writer received them, and the CV names it refuses to write
+    private final List<List<WriteBehindQueue.PendingWrite>> groups = new ArrayList<>();
+    private final List<String> failing = new ArrayList<>();
+    private long nextId = 100;
+
+    // Large batch and delay, so only flushNow commits
+    private final WriteBehindQueue queue = new WriteBehindQueue(this::writeGroup, 1000, 60_000);
+
+    @AfterEach
+    void shutdown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void updatesOfOneCVMergeIntoTheLastWrite() throws Exception {
+        CompletableFuture<Long> first = queue.update(cv(7, "First"));
+        CompletableFuture<Long> second = queue.update(cv(7, "Second"));
+        queue.flushNow().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, groups.size());
+        assertEquals(1, groups.get(0).size());
+        assertEquals("Second", groups.get(0).get(0).snapshot.fullName());
+        assertEquals(7L, first.get());
+        assertEquals(7L, second.get());
+        assertEquals(1, queue.getStats().getWritesMerged());
+    }
+
+    @Test
+    void identicalInsertsAreNotMerged() throws Exception {
+        CVSnapshot cv = cv(0, "Twin");
+        CompletableFuture<Long> first = queue.save(cv);
+        CompletableFuture<Long> second = queue.save(cv);
+        queue.flushNow().get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, groups.get(0).size());
+        assertNotEquals(first.get(), second.get());
+        assertEquals(0, queue.getStats().getWritesMerged());
+    }
+
+    @Test
+    void failedGroupIsRetriedOneCVAtATime() throws Exception {
+        failing.add("Bad");
+        CompletableFuture<Long> good = queue.update(cv(1, "Good"));
+        CompletableFuture<Long> bad = queue.update(cv(2, "Bad"));
+        CompletableFuture<Long> alsoGood = queue.update(cv(3, "Also good"));
+        queue.flushNow().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1L, good.get());
+        assertEquals(3L, alsoGood.get());
+        ExecutionException failure = assertThrows(ExecutionException.class, bad::get);
+        assertInstanceOf(SQLException.class, failure.getCause());
+        assertEquals(1, queue.getStats().getGroupFallbacks());
+        assertEquals(2, queue.getStats().getCvsCommitted());
+    }
+
+    @Test
+    void writesAfterShutdownFail() {
+        queue.shutdown();
+
+        CompletableFuture<Long> late = queue.save(cv(0, "Late"));
+
+        assertTrue(late.isCompletedExceptionally());
+        CompletionException failure = assertThrows(CompletionException.class, late::join);
+        assertInstanceOf(SQLException.class, failure.getCause());
+        assertNull(queue.flushNow().join());
+    }
+
+    private void writeGroup(List<WriteBehindQueue.PendingWrite> writes) throws SQLException {
+        for (WriteBehindQueue.PendingWrite write : writes) {
+            if (failing.contains(write.snapshot.fullName())) {
+                throw new SQLException("Refusing to write " + write.snapshot.fullName());
+            }
+        }
+        groups.add(List.copyOf(writes));
+        for (WriteBehindQueue.PendingWrite write : writes) {
+            if (write.insert) {
+                write.snapshot = write.snapshot.withId(nextId++);
+            }
+        }
+    }
+
+    private static CVSnapshot cv(long id, String name) {
+        return new CVSnapshot(id, name, "cv@example.com", "555-0100", "1 Test Street",
+            null, null, null, null, null, null, null);
+    }
+}